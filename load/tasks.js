@@ -0,0 +1,66 @@
+// Load comparison between the servlet and the reactive stacks. Run the same script against each, one at a time:
+//   k6 run -e BASE_URL=http://localhost:8080 load/tasks.js
+// Every virtual user keeps one request in flight, so the VU count is the offered concurrency. Compare the
+// http_req_duration percentiles and http_reqs rate per stage, and the live thread count of the JVM
+// (jcmd <pid> Thread.print | grep -c '^"') while the plateau runs.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PEAK_VUS = parseInt(__ENV.PEAK_VUS || '2000');
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Math.round(PEAK_VUS / 10) },
+                { duration: '30s', target: Math.round(PEAK_VUS / 4) },
+                { duration: '30s', target: Math.round(PEAK_VUS / 2) },
+                { duration: '60s', target: PEAK_VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export function setup() {
+    const email = `load-${Date.now()}@dgomesdev.com`;
+    const credentials = JSON.stringify({ username: 'load', email, password: 'load-password' });
+    http.post(`${BASE_URL}/register`, credentials, { headers: JSON_HEADERS });
+    const token = http.post(`${BASE_URL}/login`, credentials, { headers: JSON_HEADERS }).json('token');
+    const headers = { ...JSON_HEADERS, Authorization: `Bearer ${token}` };
+
+    const taskIds = [];
+    for (let i = 0; i < 50; i++) {
+        const body = JSON.stringify({ title: `Task ${i}`, description: 'Seeded', priority: 'MEDIUM', status: 'TO_BE_DONE' });
+        taskIds.push(http.post(`${BASE_URL}/tasks`, body, { headers }).json('taskId'));
+    }
+    return { headers, taskIds };
+}
+
+export default function (data) {
+    const params = { headers: data.headers };
+    const taskId = data.taskIds[Math.floor(Math.random() * data.taskIds.length)];
+
+    // Read-heavy mix: 8 reads for every write
+    const roll = Math.random();
+    let response;
+    if (roll < 0.5) {
+        response = http.get(`${BASE_URL}/tasks/${taskId}`, params);
+    } else if (roll < 0.9) {
+        response = http.get(`${BASE_URL}/tasks?size=20`, params);
+    } else {
+        const patch = JSON.stringify({ priority: roll < 0.95 ? 'HIGH' : 'LOW' });
+        response = http.patch(`${BASE_URL}/tasks/${taskId}`, patch, {
+            headers: { ...data.headers, 'Content-Type': 'application/merge-patch+json', Prefer: 'return=minimal' },
+        });
+    }
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
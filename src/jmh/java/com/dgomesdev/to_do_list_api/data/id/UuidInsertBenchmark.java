@@ -0,0 +1,90 @@
+package com.dgomesdev.to_do_list_api.data.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Inserts batches into an ever-growing table keyed by a UUID primary key, once with random v4 ids and once
+ * with time-ordered v7 ids. Point {@code url}, {@code user} and {@code password} at Postgres with
+ * {@code -p url=jdbc:postgresql://...} to measure B-tree page splits on the real database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"V4", "V7"})
+    public String idType;
+
+    @Param({"jdbc:h2:mem:uuid_benchmark;DB_CLOSE_DELAY=-1"})
+    public String url;
+
+    @Param({"benchmark"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        ids = "V7".equals(idType) ? UuidV7Sequence::next : UUID::randomUUID;
+        connection = DriverManager.getConnection(url, user, password);
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tb_uuid_benchmark");
+            statement.execute("""
+                    CREATE TABLE tb_uuid_benchmark (
+                        id UUID PRIMARY KEY,
+                        title VARCHAR(255) NOT NULL,
+                        created_at TIMESTAMP NOT NULL
+                    )
+                    """);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE tb_uuid_benchmark");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        try (var insert = connection.prepareStatement("INSERT INTO tb_uuid_benchmark (id, title, created_at) VALUES (?, ?, ?)")) {
+            var now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "Task");
+                insert.setTimestamp(3, now);
+                insert.addBatch();
+            }
+            var counts = insert.executeBatch();
+            connection.commit();
+            return counts;
+        }
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return ids.get();
+    }
+}
@@ -0,0 +1,46 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserModelBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int taskCount;
+
+    private UserEntity userEntity;
+
+    @Setup
+    public void setup() {
+        userEntity = new UserEntity(
+                "benchmark",
+                "password",
+                "benchmark@dgomesdev.com",
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+        );
+        for (int i = 0; i < taskCount; i++) {
+            var task = new TaskModel.Builder()
+                    .fromRequest(new TaskRequestDto("Task " + i, "Description " + i, Priority.MEDIUM, Status.TO_BE_DONE))
+                    .build();
+            userEntity.getTasks().add(new TaskEntity(task, userEntity));
+        }
+    }
+
+    @Benchmark
+    public UserModel fromEntity() {
+        return new UserModel.Builder()
+                .fromEntity(userEntity)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int taskCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TaskResponseDto task;
+    private UserResponseDto user;
+
+    @Setup
+    public void setup() {
+        task = new TaskResponseDto(UUID.randomUUID(), "Title", "Description", Priority.HIGH, Status.IN_PROGRESS, 0L);
+        user = new UserResponseDto(
+                UUID.randomUUID(),
+                "benchmark",
+                IntStream.range(0, taskCount)
+                        .mapToObj(i -> new TaskResponseDto(UUID.randomUUID(), "Task " + i, "Description " + i, Priority.MEDIUM, Status.TO_BE_DONE, 0L))
+                        .toList(),
+                "token"
+        );
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+}
@@ -0,0 +1,77 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.domain.exception.TaskNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
+import com.dgomesdev.to_do_list_api.dto.response.MessageDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The rejection path of a 404 or 401 flood: throw the domain exception a service would throw, catch it and build
+ * the response, from as deep in the stack as a real request would. The baseline throws an exception that fills
+ * its stack trace and builds the concatenated message body the handler used to return, which Jackson then still
+ * had to serialize.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    @Param({"16", "64"})
+    private int depth;
+
+    private GlobalExceptionHandler exceptionHandler;
+    private UUID id;
+
+    @Setup
+    public void setup() {
+        exceptionHandler = new GlobalExceptionHandler();
+        id = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> stacklessNotFound() {
+        try {
+            throwAt(depth, () -> new TaskNotFoundException(id));
+            return null;
+        } catch (RuntimeException e) {
+            return exceptionHandler.handleGeneralException(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> stacklessUnauthorized() {
+        try {
+            throwAt(depth, () -> new UnauthorizedUserException(id));
+            return null;
+        } catch (RuntimeException e) {
+            return exceptionHandler.handleGeneralException(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<MessageDto> stackTraceAndMessageBody() {
+        try {
+            throwAt(depth, () -> new NoSuchElementException("Task with taskId " + id + " not found"));
+            return null;
+        } catch (RuntimeException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new MessageDto("An error occurred: " + e.getMessage() + ", Exception: " + e.getClass()));
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) throw exception.get();
+        throwAt(depth - 1, exception);
+    }
+}
@@ -0,0 +1,103 @@
+package com.dgomesdev.to_do_list_api.infra.threads;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves {@code concurrency} simultaneous requests that each block for {@code blockingMillis}, like a JDBC, Redis
+ * or SMTP round trip, on Tomcat's default 200 platform threads or on one virtual thread per request.
+ * {@code SYNCHRONIZED} blocks inside a monitor, as several drivers do, which pins virtual threads to their carriers.
+ * <p>
+ * The score is requests per second. {@code VIRTUAL} needs a Java 21 runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threads;
+
+    @Param({"200", "2000", "10000"})
+    public int concurrency;
+
+    @Param({"PLAIN", "SYNCHRONIZED"})
+    public String blocking;
+
+    @Param({"10"})
+    public int blockingMillis;
+
+    private Executor executor;
+    private ExecutorService platformPool;
+    private Object[] monitors;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long requests;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if ("VIRTUAL".equals(threads)) {
+            if (Runtime.version().feature() < 21) throw new IllegalStateException("VIRTUAL needs a Java 21 runtime");
+            var virtual = new SimpleAsyncTaskExecutor("bench-");
+            virtual.setVirtualThreads(true);
+            executor = virtual;
+        } else {
+            platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            executor = platformPool;
+        }
+        // One monitor per request, so SYNCHRONIZED measures pinning and not lock contention
+        monitors = new Object[concurrency];
+        for (int i = 0; i < concurrency; i++) monitors[i] = new Object();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) platformPool.shutdownNow();
+    }
+
+    @Benchmark
+    public void serve(Requests requests) throws InterruptedException {
+        var done = new CountDownLatch(concurrency);
+        var synchronizedBlocking = "SYNCHRONIZED".equals(blocking);
+        for (int i = 0; i < concurrency; i++) {
+            var monitor = monitors[i];
+            executor.execute(() -> {
+                try {
+                    if (synchronizedBlocking) {
+                        synchronized (monitor) {
+                            block();
+                        }
+                    } else {
+                        block();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        requests.requests += concurrency;
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(blockingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.service.validation.DisposableDomainRule;
+import com.dgomesdev.to_do_list_api.service.validation.EmailValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+
+    @Param({"danilo.gomes@dgomesdev.com", "danilo..gomes@dgomesdev.com", "not-an-email"})
+    public String email;
+
+    private final BaseServiceImpl service = new BaseServiceImpl() {};
+    private final EmailValidator validatorWithBlocklist = new EmailValidator(
+            List.of(new DisposableDomainRule(List.of("mailinator.com", "yopmail.com", "guerrillamail.com")))
+    );
+
+    @Benchmark
+    public boolean isEmailInvalid() {
+        return service.isEmailInvalid(email);
+    }
+
+    @Benchmark
+    public boolean isEmailInvalidWithBlocklist() {
+        return !validatorWithBlocklist.isValid(email);
+    }
+
+    /**
+     * Baseline: the previous implementation, which compiled the pattern and split the address on every call.
+     */
+    @Benchmark
+    public boolean legacyIsEmailInvalid() {
+        if (email == null || email.isBlank()) return true;
+        if (!Pattern.compile(EMAIL_REGEX).matcher(email).matches()) return true;
+        int atIndex = email.indexOf('@');
+        String localPart = email.substring(0, atIndex);
+        String domainPart = email.substring(atIndex + 1);
+        if (localPart.isEmpty() || domainPart.isEmpty()) return true;
+        if (email.contains("..")) return true;
+        int lastDotIndex = domainPart.lastIndexOf('.');
+        return lastDotIndex < 1 || lastDotIndex == domainPart.length() - 1;
+    }
+}
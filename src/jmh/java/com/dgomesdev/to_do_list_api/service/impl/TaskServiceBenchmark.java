@@ -0,0 +1,80 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.ToDoListApiApplication;
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
+import com.dgomesdev.to_do_list_api.domain.model.*;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import com.dgomesdev.to_do_list_api.service.interfaces.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs TaskService.updateTask through the real Spring context against the in-memory H2 database of the
+ * bench profile, so JPA, transactions and the security context lookup are all part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID taskId;
+    private TaskModel[] updates;
+    private int next;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(ToDoListApiApplication.class)
+                .profiles("bench")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        var user = context.getBean(UserRepository.class).save(new UserEntity(
+                "benchmark",
+                "password",
+                "benchmark@dgomesdev.com",
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+        ));
+        var task = new TaskModel.Builder()
+                .fromRequest(new TaskRequestDto("Task", "Description", Priority.LOW, Status.TO_BE_DONE))
+                .build();
+        taskId = context.getBean(TaskRepository.class).save(new TaskEntity(task, user)).getId();
+
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getId(),
+                null,
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+        ));
+
+        updates = new TaskModel[]{
+                new TaskModel.Builder().fromRequest(new TaskRequestDto("Task", "Description", Priority.HIGH, Status.IN_PROGRESS)).build(),
+                new TaskModel.Builder().fromRequest(new TaskRequestDto("Task", "Description", Priority.LOW, Status.DONE)).build()
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public TaskModel updateTask() {
+        return taskService.updateTask(taskId, updates[next++ & 1], null);
+    }
+}
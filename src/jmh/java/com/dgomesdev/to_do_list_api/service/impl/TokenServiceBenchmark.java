@@ -0,0 +1,45 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.domain.model.AuthenticatedUser;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private TokenServiceImpl tokenService;
+    private UserModel user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenService = new TokenServiceImpl();
+        tokenService.secret = "benchmark-secret";
+        user = new UserModel.Builder()
+                .withUserId(UUID.randomUUID())
+                .withUsername("benchmark")
+                .withUserAuthorities(Set.of(UserAuthority.USER))
+                .build();
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public AuthenticatedUser getUserFromToken() {
+        return tokenService.getUserFromToken(token);
+    }
+}
@@ -0,0 +1,68 @@
+package com.dgomesdev.to_do_list_api.service.search;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One search over a user with 100k tasks, for a word found in most tasks, a rare one and two words together. The
+ * baseline scans every task for the words, as filtering the downloaded task list did.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryTaskSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "buy", "call", "write", "fix", "review", "plan", "pay", "send", "book", "clean",
+            "report", "invoice", "groceries", "dentist", "car", "meeting", "budget", "garden", "flight", "bread"
+    };
+
+    @Param({"buy", "dentist99", "review budget"})
+    private String query;
+
+    private final UUID userId = UUID.randomUUID();
+    private final List<TaskSearchDocument> tasks = new ArrayList<>();
+    private InMemoryTaskSearchIndex searchIndex;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            var title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i % 1000;
+            var description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + (i % 1000 == 0 ? " dentist99" : "");
+            tasks.add(new TaskSearchDocument(UUID.randomUUID(), title, description));
+        }
+        searchIndex = new InMemoryTaskSearchIndex(id -> tasks, 10, Duration.ofHours(1));
+        searchIndex.search(userId, "warm", 20);
+    }
+
+    @Benchmark
+    public List<UUID> invertedIndex() {
+        return searchIndex.search(userId, query, 20);
+    }
+
+    @Benchmark
+    public List<UUID> scanBaseline() {
+        var words = query.toLowerCase(Locale.ROOT).split(" ");
+        var result = new ArrayList<UUID>();
+        for (var task : tasks) {
+            var text = (task.title() + " " + task.description()).toLowerCase(Locale.ROOT);
+            var matches = true;
+            for (var word : words) matches &= text.contains(word);
+            if (matches && result.size() < 20) result.add(task.taskId());
+        }
+        return result;
+    }
+}
@@ -5,8 +5,8 @@ import com.dgomesdev.to_do_list_api.domain.model.UserModel;
 import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
 import com.dgomesdev.to_do_list_api.dto.response.MessageDto;
 import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
-import com.dgomesdev.to_do_list_api.service.interfaces.EmailService;
 import com.dgomesdev.to_do_list_api.service.interfaces.RecoverPasswordService;
+import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
 import com.dgomesdev.to_do_list_api.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,7 +35,7 @@ public class AuthController {
     @Autowired
     private AuthenticationManager authenticationManager;
     @Autowired
-    private EmailService emailService;
+    private TokenService tokenService;
 
     @PostMapping("register")
     @Operation(summary = "Register", description = "Create user")
@@ -47,19 +47,20 @@ public class AuthController {
                 .withUserAuthorities(Set.of(UserAuthority.USER))
                 .build()
         );
-        emailService.sendWelcomeMail(user.email(), user.username());
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(new UserResponseDto(savedUser));
     }
 
     @PostMapping("login")
-    @Operation(summary = "Login", description = "User login")
+    @Operation(summary = "Login", description = "User login. The response has no tasks, fetch them from GET /tasks")
     public ResponseEntity<UserResponseDto> login(@RequestBody UserRequestDto user) {
         Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(user.email().trim().toLowerCase(), user.password())
+                new UsernamePasswordAuthenticationToken(user.email().trim(), user.password())
         );
         var loggedUser = (UserModel) authentication.getPrincipal();
+        // Signed only once the password matched, failed attempts never pay for it
+        loggedUser.setToken(tokenService.generateToken(loggedUser));
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(new UserResponseDto(loggedUser));
@@ -68,9 +69,8 @@ public class AuthController {
     @PostMapping("recoverPassword")
     @Operation(summary = "recoverPassword", description = "Recover Password")
     public ResponseEntity<MessageDto> recoverPassword(@RequestBody UserRequestDto user) {
-        var foundUser = userService.findUserByEmail(user.email().trim().toLowerCase());
-        var recoveryPasswordCode = recoverPasswordService.generateCode(foundUser.getUserId());
-        emailService.sendResetPasswordMail(user.email(), foundUser.getUsername(), recoveryPasswordCode);
+        var foundUser = userService.findUserByEmail(user.email().trim());
+        recoverPasswordService.sendCode(foundUser.getUserId(), foundUser.getEmail(), foundUser.getUsername());
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(new MessageDto("Recovery code sent by mail"));
@@ -86,7 +86,7 @@ public class AuthController {
     @PostMapping("resetPassword/{recoveryCode}")
     @Operation(summary = "Reset password", description = "Reset password")
     public ResponseEntity<MessageDto> resetPassword(@PathVariable String recoveryCode, @RequestBody UserRequestDto user) {
-        var foundUser = userService.findUserByEmail(user.email().trim().toLowerCase());
+        var foundUser = userService.findUserByEmail(user.email().trim());
         recoverPasswordService.validateCode(foundUser.getUserId(), recoveryCode);
         userService.resetPassword(foundUser.getUserId(), user.password());
         return ResponseEntity
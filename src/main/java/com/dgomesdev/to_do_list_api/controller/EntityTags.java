@@ -0,0 +1,118 @@
+package com.dgomesdev.to_do_list_api.controller;
+
+import com.dgomesdev.to_do_list_api.domain.exception.PreconditionFailedException;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskVersion;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+public final class EntityTags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {}
+
+    public static String of(TaskModel task) {
+        return of(task.getVersion());
+    }
+
+    public static String of(TaskVersion version) {
+        return of(version.version());
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The user's own version first, so a write can compare it, then what its task list depends on.
+     */
+    public static String of(UserVersion version) {
+        return "\"" + (version.version() == null ? 0 : version.version()) + '-' + hex(version.tasksUpdatedAt()) + '-'
+                + Long.toHexString(version.taskCount()) + "\"";
+    }
+
+    public static void apply(HttpHeaders headers, TaskModel task) {
+        apply(headers, new TaskVersion(task.getUserId(), task.getVersion(), task.getUpdatedAt()));
+    }
+
+    public static void apply(HttpHeaders headers, TaskVersion version) {
+        if (version.version() != null) headers.setETag(of(version));
+        if (version.updatedAt() != null) headers.setLastModified(version.updatedAt().getTime());
+    }
+
+    /**
+     * The version a single strong task tag stands for, so the write can compare it atomically. Null for anything
+     * else, such as {@code *} or a list, which has to be checked with {@link #requireMatch}.
+     */
+    public static Long parseVersion(String ifMatch) {
+        var tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') return null;
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The user version a single strong user tag starts with. The task part is left out: a user write does not depend
+     * on the tasks. Null for anything else, which has to be checked with {@link #requireMatch}.
+     */
+    public static Long parseUserVersion(String ifMatch) {
+        var tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') return null;
+        var parts = tag.substring(1, tag.length() - 1).split("-", -1);
+        if (parts.length != 3) return null;
+        try {
+            return Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static boolean isConditional(HttpHeaders request) {
+        return request.containsKey(HttpHeaders.IF_NONE_MATCH) || request.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    /**
+     * If-None-Match wins over If-Modified-Since when both are sent. Tags are compared weakly, dates to the second
+     * since that is all an HTTP date carries.
+     */
+    public static boolean isNotModified(HttpHeaders request, String eTag, Date lastModified) {
+        List<String> ifNoneMatch = request.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty())
+            return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || opaque(tag).equals(opaque(eTag)));
+        if (lastModified == null) return false;
+        try {
+            long ifModifiedSince = request.getIfModifiedSince();
+            return ifModifiedSince >= 0 && lastModified.getTime() / 1000 * 1000 <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            // An unparsable date is ignored, as if it was not sent
+            return false;
+        }
+    }
+
+    /**
+     * Strong comparison as If-Match requires: a weak tag never matches.
+     */
+    public static void requireMatch(String ifMatch, String eTag) {
+        if (ifMatch == null) return;
+        var matches = Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+        if (!matches) throw new PreconditionFailedException(eTag);
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static String hex(Date date) {
+        return date == null ? "0" : Long.toHexString(date.getTime());
+    }
+}
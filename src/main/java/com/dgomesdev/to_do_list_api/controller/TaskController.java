@@ -1,20 +1,37 @@
 package com.dgomesdev.to_do_list_api.controller;
 
+import com.dgomesdev.to_do_list_api.domain.exception.VersionConflictException;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
 import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperation;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import com.dgomesdev.to_do_list_api.dto.request.TaskBatchRequestDto;
+import com.dgomesdev.to_do_list_api.dto.request.TaskPatchRequestDto;
 import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import com.dgomesdev.to_do_list_api.dto.response.DeletedTaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskBatchResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskChangesResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskPageResponseDto;
 import com.dgomesdev.to_do_list_api.dto.response.TaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskSearchResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskStatsResponseDto;
 import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
 import com.dgomesdev.to_do_list_api.service.interfaces.TaskService;
+import com.dgomesdev.to_do_list_api.service.interfaces.TaskStatsService;
 import com.dgomesdev.to_do_list_api.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @CrossOrigin
 @RestController
@@ -22,54 +39,240 @@ import java.util.UUID;
 @Tag(name = "Task controller", description = "Controller to manage the user's tasks")
 public class TaskController {
 
+    /**
+     * Media type (or {@code ?view=user}) selecting the legacy write responses that return the whole user with every task.
+     * Without it, writes answer with the changed task only.
+     */
+    public static final String USER_MEDIA_TYPE = "application/vnd.dgomesdev.user+json";
+
+    public static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+
     @Autowired
     private TaskService taskService;
     @Autowired
     private UserService userService;
+    @Autowired
+    private TaskStatsService taskStatsService;
 
     @PostMapping
     @Operation(summary = "Save task", description = "Create task")
-    public ResponseEntity<UserResponseDto> saveTask(@RequestBody @Valid TaskRequestDto taskRequestDto) {
+    public ResponseEntity<?> saveTask(
+            @RequestBody @Valid TaskRequestDto taskRequestDto,
+            @RequestParam(required = false) String view,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
         var savedTask = taskService.saveTask(new TaskModel.Builder().fromRequest(taskRequestDto).build());
-        var user = userService.findUserById(savedTask.getUserId());
+        if (isUserView(view, accept)) {
+            var user = userService.findUserById(savedTask.getUserId());
+            // The tag describes the user that is returned, as GET /user/{id} would send it
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .eTag(EntityTags.of(UserVersion.of(user)))
+                    .body(new UserResponseDto(user));
+        }
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(new UserResponseDto(user));
+                .headers(headers -> EntityTags.apply(headers, savedTask))
+                .body(new TaskResponseDto(savedTask));
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Apply task batch",
+            description = "Create, update, change status or delete many tasks in one transaction, with one result per operation"
+    )
+    public ResponseEntity<TaskBatchResponseDto> applyBatch(@RequestBody @Valid TaskBatchRequestDto taskBatchRequestDto) {
+        var results = taskService.applyBatch(
+                taskBatchRequestDto.operations().stream().map(TaskOperation::fromRequest).toList()
+        );
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(TaskBatchResponseDto.fromResults(results));
+    }
+
+    @GetMapping
+    @Operation(summary = "Find tasks", description = "List the user's tasks page by page, oldest first")
+    public ResponseEntity<TaskPageResponseDto> findTasks(
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        var page = taskService.findTasks(status, priority, cursor, size);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(new TaskPageResponseDto(page));
+    }
+
+    @GetMapping("/changes")
+    @Operation(
+            summary = "Find task changes",
+            description = "List the tasks created, updated or deleted after the since cursor, oldest change first. "
+                    + "Store nextCursor and send it back as since; 410 means the cursor expired and a full sync is needed"
+    )
+    public ResponseEntity<TaskChangesResponseDto> findChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        var changes = taskService.findChanges(since, size);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(new TaskChangesResponseDto(changes));
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search tasks",
+            description = "Find the user's tasks whose title or description contain the words of q, best match first"
+    )
+    public ResponseEntity<TaskSearchResponseDto> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        var tasks = taskService.searchTasks(q, size);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(TaskSearchResponseDto.fromModels(tasks));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Task stats", description = "Count the user's tasks by status and by priority")
+    public ResponseEntity<TaskStatsResponseDto> findStats() {
+        var stats = taskStatsService.findStats();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(new TaskStatsResponseDto(stats));
     }
 
     @GetMapping("/{taskId}")
-    @Operation(summary = "Find task", description = "Find a specific task by ID")
-    public ResponseEntity<TaskResponseDto> findTaskById(@PathVariable UUID taskId) {
+    @Operation(
+            summary = "Find task",
+            description = "Find a specific task by ID. Answers 304 to a matching If-None-Match or If-Modified-Since"
+    )
+    public ResponseEntity<TaskResponseDto> findTaskById(
+            @PathVariable UUID taskId,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
+        if (EntityTags.isConditional(requestHeaders)) {
+            // Checked against the version alone, the task is only loaded when it has to be sent
+            var version = taskService.findTaskVersion(taskId);
+            if (EntityTags.isNotModified(requestHeaders, EntityTags.of(version), version.updatedAt())) {
+                return ResponseEntity
+                        .status(HttpStatus.NOT_MODIFIED)
+                        .headers(headers -> EntityTags.apply(headers, version))
+                        .build();
+            }
+        }
         var foundTask = taskService.findTaskById(taskId);
+        var body = new TaskResponseDto(foundTask);
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new TaskResponseDto(foundTask));
+                .headers(headers -> EntityTags.apply(headers, foundTask))
+                .body(body);
     }
 
     @PatchMapping("/{taskId}")
     @Operation(summary = "Update task", description = "Update the task's data")
-    public ResponseEntity<UserResponseDto> updateTask(
+    public ResponseEntity<?> updateTask(
             @PathVariable UUID taskId,
-            @RequestBody @Valid TaskRequestDto taskRequestDto
+            @RequestBody @Valid TaskRequestDto taskRequestDto,
+            @RequestParam(required = false) String view,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        var updatedTask = taskService.updateTask(
+        var ifMatchVersion = ifMatchVersion(taskId, ifMatch);
+        var updatedTask = write(ifMatchVersion, () -> taskService.updateTask(
                 taskId,
-                new TaskModel.Builder().fromRequest(taskRequestDto).build()
-        );
-        var user = userService.findUserById(updatedTask.getUserId());
+                new TaskModel.Builder().fromRequest(taskRequestDto).build(),
+                ifMatchVersion
+        ));
+        if (isUserView(view, accept)) {
+            var user = userService.findUserById(updatedTask.getUserId());
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .eTag(EntityTags.of(UserVersion.of(user)))
+                    .body(new UserResponseDto(user));
+        }
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new UserResponseDto(user));
+                .headers(headers -> EntityTags.apply(headers, updatedTask))
+                .body(new TaskResponseDto(updatedTask));
+    }
+
+    @PatchMapping(value = "/{taskId}", consumes = MERGE_PATCH_MEDIA_TYPE)
+    @Operation(
+            summary = "Patch task",
+            description = "Write only the supplied fields. Send Prefer: return=minimal to skip reading the task back. "
+                    + "An expected version in If-Match (412) or in the body (409) makes the write fail instead of "
+                    + "overwriting a concurrent one"
+    )
+    public ResponseEntity<TaskResponseDto> patchTask(
+            @PathVariable UUID taskId,
+            @RequestBody TaskPatchRequestDto taskPatchRequestDto,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        var ifMatchVersion = ifMatchVersion(taskId, ifMatch);
+        var version = write(ifMatchVersion, () -> taskService.patchTask(
+                taskId,
+                TaskPatch.fromRequest(taskPatchRequestDto),
+                ifMatchVersion != null ? ifMatchVersion : taskPatchRequestDto.version()
+        ));
+        if (prefer != null && prefer.contains("return=minimal")) {
+            return ResponseEntity
+                    .status(HttpStatus.NO_CONTENT)
+                    .eTag(EntityTags.of(version))
+                    .header("Preference-Applied", "return=minimal")
+                    .build();
+        }
+        var patchedTask = taskService.findTaskById(taskId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(headers -> EntityTags.apply(headers, patchedTask))
+                .body(new TaskResponseDto(patchedTask));
     }
 
     @DeleteMapping("/{taskId}")
     @Operation(summary = "Delete task", description = "Delete a task")
-    public ResponseEntity<UserResponseDto> deleteTask(@PathVariable UUID taskId) {
+    public ResponseEntity<?> deleteTask(
+            @PathVariable UUID taskId,
+            @RequestParam(required = false) String view,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
         if (taskId == null) throw new NullPointerException("taskId cannot be null");
-        var taskUser = taskService.deleteTask(taskId);
-        var user = userService.findUserById(taskUser);
+        var ifMatchVersion = ifMatchVersion(taskId, ifMatch);
+        var deleted = write(ifMatchVersion, () -> taskService.deleteTask(taskId, ifMatchVersion));
+        if (isUserView(view, accept)) {
+            var user = userService.findUserById(deleted.userId());
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .eTag(EntityTags.of(UserVersion.of(user)))
+                    .body(new UserResponseDto(user));
+        }
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new UserResponseDto(user));
+                .body(new DeletedTaskResponseDto(taskId, deleted.version()));
+    }
+
+    private Long ifMatchVersion(UUID taskId, String ifMatch) {
+        if (ifMatch == null) return null;
+        var version = EntityTags.parseVersion(ifMatch);
+        // Only a single strong tag can be compared inside the write, anything else is checked up front
+        if (version == null) EntityTags.requireMatch(ifMatch, EntityTags.of(taskService.findTaskVersion(taskId)));
+        return version;
+    }
+
+    private <T> T write(Long ifMatchVersion, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (VersionConflictException conflict) {
+            if (ifMatchVersion == null) throw conflict;
+            throw new VersionConflictException(conflict.getCurrentTask(), true);
+        }
+    }
+
+    private boolean isUserView(String view, String accept) {
+        return "user".equalsIgnoreCase(view) || (accept != null && accept.contains(USER_MEDIA_TYPE));
     }
 }
\ No newline at end of file
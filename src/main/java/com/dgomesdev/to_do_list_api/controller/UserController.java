@@ -2,12 +2,14 @@ package com.dgomesdev.to_do_list_api.controller;
 
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
 import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
 import com.dgomesdev.to_do_list_api.dto.response.MessageDto;
 import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
 import com.dgomesdev.to_do_list_api.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,20 +30,40 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    @Operation(summary = "Find user", description = "Find a specific user by ID")
-    public ResponseEntity<UserResponseDto> findUserById(@PathVariable UUID userId) {
+    @Operation(
+            summary = "Find user",
+            description = "Find a specific user by ID with its tasks. Answers 304 to a matching If-None-Match"
+    )
+    public ResponseEntity<UserResponseDto> findUserById(
+            @PathVariable UUID userId,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
+        // No Last-Modified: deleting a task makes the user older, not newer, so only the ETag can tell
+        if (!requestHeaders.getIfNoneMatch().isEmpty()) {
+            var eTag = EntityTags.of(userService.findUserVersion(userId));
+            if (EntityTags.isNotModified(requestHeaders, eTag, null)) {
+                return ResponseEntity
+                        .status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .build();
+            }
+        }
         var user = userService.findUserById(userId);
+        var body = new UserResponseDto(user);
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new UserResponseDto(user));
+                .eTag(EntityTags.of(UserVersion.of(user)))
+                .body(body);
     }
 
     @PatchMapping("/{userId}")
     @Operation(summary = "Update user", description = "Update the user's data")
     public ResponseEntity<UserResponseDto> updateUser(
             @PathVariable UUID userId,
-            @RequestBody UserRequestDto user
+            @RequestBody UserRequestDto user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
+        var ifMatchVersion = ifMatchVersion(userId, ifMatch);
         var updatedUser = userService.updateUser(
                 new UserModel.Builder()
                         .withUserId(userId)
@@ -49,20 +71,33 @@ public class UserController {
                         .withEmail(user.email().trim().toLowerCase())
                         .withPassword(user.password())
                         .withUserAuthorities(Set.of(UserAuthority.USER))
-                        .build()
+                        .build(),
+                ifMatchVersion
         );
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .eTag(EntityTags.of(UserVersion.of(updatedUser)))
                 .body(new UserResponseDto(updatedUser));
     }
 
     @DeleteMapping("/{userId}")
     @Operation(summary = "Delete user", description = "Delete the user")
-    public ResponseEntity<MessageDto> deleteUser(@PathVariable UUID userId) {
-        if (userId != null) userService.deleteUser(userId);
-        else throw new NullPointerException("userId cannot be null");
+    public ResponseEntity<MessageDto> deleteUser(
+            @PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        if (userId == null) throw new NullPointerException("userId cannot be null");
+        userService.deleteUser(userId, ifMatchVersion(userId, ifMatch));
         return ResponseEntity
                 .status(HttpStatus.NO_CONTENT)
                 .body(new MessageDto("User deleted successfully"));
     }
+
+    private Long ifMatchVersion(UUID userId, String ifMatch) {
+        if (ifMatch == null) return null;
+        var version = EntityTags.parseUserVersion(ifMatch);
+        // Only a single strong tag can be compared inside the write, anything else is checked up front
+        if (version == null) EntityTags.requireMatch(ifMatch, EntityTags.of(userService.findUserVersion(userId)));
+        return version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.dgomesdev.to_do_list_api.data.entity;
+
+import com.dgomesdev.to_do_list_api.domain.model.MailStatus;
+import com.dgomesdev.to_do_list_api.domain.model.MailType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Entity(name = "tb_mail_outbox")
+@Getter
+public class MailOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String username;
+
+    /**
+     * The password reset code, kept only until the mail is sent or given up on.
+     */
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailStatus status = MailStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Date nextAttemptAt = new Date();
+
+    @Column(name = "claim_token")
+    private UUID claimToken;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false, name = "created_at")
+    private Date createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
+    public MailOutboxEntity(MailType type, String recipient, String username, String code) {
+        this.type = type;
+        this.recipient = recipient;
+        this.username = username;
+        this.code = code;
+    }
+
+    protected MailOutboxEntity() {}
+
+    public void markSent() {
+        this.status = MailStatus.SENT;
+        this.attempts++;
+        this.lastError = null;
+        this.code = null;
+    }
+
+    public void markFailed(String error, Date nextAttemptAt, boolean deadLetter) {
+        this.status = deadLetter ? MailStatus.DEAD : MailStatus.PENDING;
+        this.attempts++;
+        if (deadLetter) this.code = null;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
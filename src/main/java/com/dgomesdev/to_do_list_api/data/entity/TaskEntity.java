@@ -1,5 +1,6 @@
 package com.dgomesdev.to_do_list_api.data.entity;
 
+import com.dgomesdev.to_do_list_api.data.id.UuidV7;
 import com.dgomesdev.to_do_list_api.domain.model.Priority;
 import com.dgomesdev.to_do_list_api.domain.model.Status;
 import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Getter
 public class TaskEntity {
         @Id
-        @GeneratedValue(strategy = GenerationType.UUID)
+        @UuidV7
         private UUID id;
 
         @Setter
@@ -46,6 +47,10 @@ public class TaskEntity {
         @Column(name = "updated_at")
         private Date updatedAt;
 
+        @Version
+        @Column(nullable = false)
+        private Long version;
+
         public TaskEntity(TaskModel task, UserEntity user) {
                 this.title = task.getTitle();
                 this.description = task.getDescription();
@@ -0,0 +1,86 @@
+package com.dgomesdev.to_do_list_api.data.entity;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * How many tasks of a user have a status and priority. Rows are only inserted through save, for a new user or by
+ * the reconciliation, so {@link #isNew()} is always true; writes of tasks move the counts with bulk updates.
+ */
+@Entity(name = "tb_task_stats")
+@IdClass(TaskStatsEntity.Key.class)
+@Getter
+public class TaskStatsEntity implements Persistable<TaskStatsEntity.Key> {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Id
+    private Status status;
+
+    @Id
+    private Priority priority;
+
+    @Setter
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    public TaskStatsEntity(UUID userId, Status status, Priority priority, long taskCount) {
+        this.userId = userId;
+        this.status = status;
+        this.priority = priority;
+        this.taskCount = taskCount;
+    }
+
+    protected TaskStatsEntity() {}
+
+    /**
+     * The zeroed counters of a user without tasks.
+     */
+    public static List<TaskStatsEntity> emptyFor(UUID userId) {
+        var counters = new ArrayList<TaskStatsEntity>();
+        for (var status : Status.values())
+            for (var priority : Priority.values())
+                counters.add(new TaskStatsEntity(userId, status, priority, 0));
+        return counters;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(userId, status, priority);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public TaskStatsCount toCount() {
+        return new TaskStatsCount(status, priority, taskCount);
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID userId;
+        private Status status;
+        private Priority priority;
+    }
+}
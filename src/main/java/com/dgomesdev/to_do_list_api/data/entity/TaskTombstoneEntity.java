@@ -0,0 +1,46 @@
+package com.dgomesdev.to_do_list_api.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Marks a deleted task for delta sync. Tombstones are only ever inserted, so {@link #isNew()} is always true and
+ * saving one never selects first.
+ */
+@Entity(name = "tb_task_tombstones")
+@Getter
+public class TaskTombstoneEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Date deletedAt;
+
+    public TaskTombstoneEntity(UUID taskId, UUID userId, Date deletedAt) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+
+    protected TaskTombstoneEntity() {}
+
+    @Override
+    public UUID getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.dgomesdev.to_do_list_api.data.entity;
 
+import com.dgomesdev.to_do_list_api.data.id.UuidV7;
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import java.util.stream.Collectors;
 @Entity(name = "tb_user")
 public class UserEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Setter
@@ -48,6 +49,10 @@ public class UserEntity {
     @Column(name = "updated_at")
     private Date updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public UserEntity(String username, String password, String email, Collection<GrantedAuthority> authorities) {
         this.username = username;
         this.password = password;
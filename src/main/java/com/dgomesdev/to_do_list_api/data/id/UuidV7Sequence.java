@@ -0,0 +1,41 @@
+package com.dgomesdev.to_do_list_api.data.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDv7 (RFC 9562): 48 bits of Unix milliseconds, then a 12 bit counter in rand_a, then 62 random bits.
+ * New keys land at the right edge of the B-tree instead of on random pages.
+ * <p>
+ * Timestamp and counter live in one {@link AtomicLong} advanced by CAS, so ids are strictly increasing across
+ * threads without locking. When more than 4096 ids are asked for in one millisecond the counter carries
+ * into the timestamp, running slightly ahead of the clock until it catches up.
+ * <p>
+ * Free of any persistence dependency so the JPA generator and the R2DBC repositories share one sequence.
+ */
+public final class UuidV7Sequence {
+
+    private static final int COUNTER_BITS = 12;
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7Sequence() {}
+
+    public static UUID next() {
+        long timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (timestampAndCounter & 0xFFFL);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    static long nextTimestampAndCounter(long nowMillis) {
+        long floor = nowMillis << COUNTER_BITS;
+        while (true) {
+            long last = LAST.get();
+            long next = Math.max(floor, last + 1);
+            if (LAST.compareAndSet(last, next)) return next;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.MailOutboxEntity;
+import com.dgomesdev.to_do_list_api.domain.model.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, UUID> {
+
+    @Query("""
+            SELECT m.id FROM tb_mail_outbox m
+            WHERE m.status IN :statuses AND m.nextAttemptAt <= :now
+            ORDER BY m.nextAttemptAt
+            """)
+    List<UUID> findDueIds(
+            @Param("statuses") Collection<MailStatus> statuses,
+            @Param("now") Date now,
+            Pageable pageable
+    );
+
+    /**
+     * Takes a lease on a batch of due messages so only one worker, on any node, sends them.
+     * The claimed rows are tagged with the worker's claim token so it can load exactly what it won.
+     * A SENDING message whose lease expired (its worker died) can be claimed again.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE tb_mail_outbox m
+            SET m.status = :sending, m.nextAttemptAt = :leaseUntil, m.claimToken = :claimToken
+            WHERE m.id IN :ids AND m.status IN :statuses AND m.nextAttemptAt <= :now
+            """)
+    int claim(
+            @Param("ids") Collection<UUID> ids,
+            @Param("statuses") Collection<MailStatus> statuses,
+            @Param("sending") MailStatus sending,
+            @Param("now") Date now,
+            @Param("leaseUntil") Date leaseUntil,
+            @Param("claimToken") UUID claimToken
+    );
+
+    List<MailOutboxEntity> findByClaimToken(UUID claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM tb_mail_outbox m WHERE m.status = :status AND m.updatedAt < :before")
+    int deleteByStatusUpdatedBefore(@Param("status") MailStatus status, @Param("before") Date before);
+}
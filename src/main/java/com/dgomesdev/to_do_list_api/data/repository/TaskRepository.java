@@ -1,10 +1,86 @@
 package com.dgomesdev.to_do_list_api.data.repository;
 
 import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import com.dgomesdev.to_do_list_api.domain.model.TaskVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {}
+public interface TaskRepository extends JpaRepository<TaskEntity, UUID>, TaskRepositoryCustom {
+
+    @Query("SELECT t FROM tb_tasks t WHERE t.user.id = :userId ORDER BY t.createdAt, t.id")
+    List<TaskEntity> findAllByUserId(@Param("userId") UUID userId);
+
+    @Query("""
+            SELECT t FROM tb_tasks t
+            WHERE t.user.id = :userId
+            AND (:status IS NULL OR t.status = :status)
+            AND (:priority IS NULL OR t.priority = :priority)
+            AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :taskId))
+            ORDER BY t.createdAt, t.id
+            """)
+    List<TaskEntity> findPageByUserId(
+            @Param("userId") UUID userId,
+            @Param("status") Status status,
+            @Param("priority") Priority priority,
+            @Param("createdAt") Date createdAt,
+            @Param("taskId") UUID taskId,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.dgomesdev.to_do_list_api.domain.model.TaskVersion(t.user.id, t.version, t.updatedAt) FROM tb_tasks t WHERE t.id = :taskId")
+    Optional<TaskVersion> findVersionById(@Param("taskId") UUID taskId);
+
+    @Query("""
+            SELECT t FROM tb_tasks t
+            WHERE t.user.id = :userId
+            AND (t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :taskId))
+            AND t.updatedAt <= :until
+            ORDER BY t.updatedAt, t.id
+            """)
+    List<TaskEntity> findChangesByUserId(
+            @Param("userId") UUID userId,
+            @Param("since") Date since,
+            @Param("taskId") UUID taskId,
+            @Param("until") Date until,
+            Pageable pageable
+    );
+
+    /**
+     * Counts the user's tasks the slow way, to check the counters in tb_task_stats against.
+     */
+    @Query("""
+            SELECT new com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount(t.status, t.priority, COUNT(t.id))
+            FROM tb_tasks t
+            WHERE t.user.id = :userId
+            GROUP BY t.status, t.priority
+            """)
+    List<TaskStatsCount> countByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT new com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument(t.id, t.title, t.description) FROM tb_tasks t WHERE t.user.id = :userId")
+    List<TaskSearchDocument> findSearchDocumentsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Postgres only: matches the generated search_vector column through its (user_id, search_vector) GIN index,
+     * best ranked first.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT t.id FROM tb_tasks t, websearch_to_tsquery('simple', :query) q
+            WHERE t.user_id = :userId AND t.search_vector @@ q
+            ORDER BY ts_rank(t.search_vector, q) DESC, t.id
+            LIMIT :limit
+            """)
+    List<UUID> searchIdsByUserId(@Param("userId") UUID userId, @Param("query") String query, @Param("limit") int limit);
+}
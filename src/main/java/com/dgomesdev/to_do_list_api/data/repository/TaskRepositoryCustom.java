@@ -0,0 +1,39 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskWrite;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Writes the supplied columns of the patch with a single
+     * {@code UPDATE tb_tasks ... WHERE id = :taskId AND user_id = :userId} that also bumps the version.
+     * Only for a patch that leaves status and priority alone, any other has to move the counters with
+     * {@link #patchOwnedCounted}.
+     *
+     * @param version the version the caller expects, or null to write over whatever the current version is
+     * @return the number of updated rows, 0 when the task does not exist, belongs to another user or has moved
+     * past the expected version
+     */
+    int patchOwned(UUID taskId, UUID userId, TaskPatch patch, Date updatedAt, Long version);
+
+    /**
+     * Writes the patch like {@link #patchOwned} and moves the task between the user's counters, with the old status
+     * and priority taken from the write itself. One statement on Postgres.
+     *
+     * @return empty when the task does not exist, belongs to another user or has moved past the expected version
+     */
+    Optional<TaskWrite> patchOwnedCounted(UUID taskId, UUID userId, TaskPatch patch, Date updatedAt, Long version);
+
+    /**
+     * Deletes an owned task and takes it out of the user's counter it was in. One statement on Postgres.
+     *
+     * @param version the version the caller expects, or null to delete whatever the current version is
+     * @return empty when the task does not exist, belongs to another user or has moved past the expected version
+     */
+    Optional<TaskWrite> deleteOwned(UUID taskId, UUID userId, Long version);
+}
@@ -0,0 +1,111 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsDelta;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsKey;
+import com.dgomesdev.to_do_list_api.domain.model.TaskWrite;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patchOwned(UUID taskId, UUID userId, TaskPatch patch, Date updatedAt, Long version) {
+        // Built as JPQL text rather than criteria so each column combination hits Hibernate's query plan cache
+        // A bulk UPDATE skips Hibernate's versioning, so the version is bumped and compared by hand
+        var jpql = new StringBuilder("UPDATE tb_tasks t SET t.updatedAt = :updatedAt, t.version = t.version + 1");
+        if (patch.title() != null) jpql.append(", t.title = :title");
+        if (patch.description() != null) jpql.append(", t.description = :description");
+        if (patch.priority() != null) jpql.append(", t.priority = :priority");
+        if (patch.status() != null) jpql.append(", t.status = :status");
+        jpql.append(" WHERE t.id = :taskId AND t.user.id = :userId");
+        if (version != null) jpql.append(" AND t.version = :version");
+
+        var query = entityManager.createQuery(jpql.toString())
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("taskId", taskId)
+                .setParameter("userId", userId);
+        if (version != null) query.setParameter("version", version);
+        if (patch.title() != null) query.setParameter("title", patch.title());
+        if (patch.description() != null) query.setParameter("description", patch.description());
+        if (patch.priority() != null) query.setParameter("priority", patch.priority());
+        if (patch.status() != null) query.setParameter("status", patch.status());
+        return query.executeUpdate();
+    }
+
+    @Override
+    public Optional<TaskWrite> patchOwnedCounted(UUID taskId, UUID userId, TaskPatch patch, Date updatedAt, Long version) {
+        var postgres = isPostgres();
+        var query = entityManager.createNativeQuery(TaskWriteStatements.patch(postgres, patch, version != null))
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("taskId", taskId)
+                .setParameter("userId", userId);
+        if (version != null) query.setParameter("version", version);
+        if (patch.title() != null) query.setParameter("title", patch.title());
+        if (patch.description() != null) query.setParameter("description", patch.description());
+        if (patch.priority() != null) query.setParameter("priority", (short) patch.priority().ordinal());
+        if (patch.status() != null) query.setParameter("status", (short) patch.status().ordinal());
+
+        var written = single(query);
+        if (!postgres) written.ifPresent(write -> adjust(userId, new TaskStatsDelta().move(write.counted(), new TaskStatsKey(
+                patch.status() == null ? write.counted().status() : patch.status(),
+                patch.priority() == null ? write.counted().priority() : patch.priority()
+        ))));
+        return written;
+    }
+
+    @Override
+    public Optional<TaskWrite> deleteOwned(UUID taskId, UUID userId, Long version) {
+        var postgres = isPostgres();
+        var query = entityManager.createNativeQuery(TaskWriteStatements.delete(postgres, version != null))
+                .setParameter("taskId", taskId)
+                .setParameter("userId", userId);
+        if (version != null) query.setParameter("version", version);
+
+        var deleted = single(query);
+        if (!postgres) deleted.ifPresent(write -> adjust(userId, new TaskStatsDelta().remove(write.counted())));
+        return deleted;
+    }
+
+    private Optional<TaskWrite> single(Query query) {
+        var rows = query.getResultList();
+        if (rows.isEmpty()) return Optional.empty();
+        // Both columns hold enum ordinals
+        var row = (Object[]) rows.get(0);
+        return Optional.of(new TaskWrite(
+                new TaskStatsKey(
+                        Status.values()[((Number) row[0]).intValue()],
+                        Priority.values()[((Number) row[1]).intValue()]
+                ),
+                ((Number) row[2]).longValue()
+        ));
+    }
+
+    private void adjust(UUID userId, TaskStatsDelta delta) {
+        delta.forEach(change -> entityManager.createNativeQuery(TaskWriteStatements.ADJUST)
+                .setParameter("delta", change.count())
+                .setParameter("userId", userId)
+                .setParameter("status", (short) change.status().ordinal())
+                .setParameter("priority", (short) change.priority().ordinal())
+                .executeUpdate());
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,49 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskStatsEntity;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskStatsRepository extends JpaRepository<TaskStatsEntity, TaskStatsEntity.Key> {
+
+    @Query("SELECT new com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount(s.status, s.priority, s.taskCount) FROM tb_task_stats s WHERE s.userId = :userId")
+    List<TaskStatsCount> findCountsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Locks the user's counters in (status, priority) order, the order writes of tasks lock them in.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM tb_task_stats s WHERE s.userId = :userId ORDER BY s.status, s.priority")
+    List<TaskStatsEntity> lockAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * @return 0 when the counter row is missing, which the reconciliation creates
+     */
+    @Modifying
+    @Query("""
+            UPDATE tb_task_stats s SET s.taskCount = s.taskCount + :delta
+            WHERE s.userId = :userId AND s.status = :status AND s.priority = :priority
+            """)
+    int adjust(
+            @Param("userId") UUID userId,
+            @Param("status") Status status,
+            @Param("priority") Priority priority,
+            @Param("delta") long delta
+    );
+
+    @Modifying
+    @Query("DELETE FROM tb_task_stats s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,36 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskTombstoneEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstoneEntity, UUID> {
+
+    @Query("""
+            SELECT t FROM tb_task_tombstones t
+            WHERE t.userId = :userId
+            AND (t.deletedAt > :since OR (t.deletedAt = :since AND t.taskId > :taskId))
+            AND t.deletedAt <= :until
+            ORDER BY t.deletedAt, t.taskId
+            """)
+    List<TaskTombstoneEntity> findChangesByUserId(
+            @Param("userId") UUID userId,
+            @Param("since") Date since,
+            @Param("taskId") UUID taskId,
+            @Param("until") Date until,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("DELETE FROM tb_task_tombstones t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") Date before);
+}
@@ -0,0 +1,84 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+
+/**
+ * Native SQL for the task writes that move the user's counters in tb_task_stats, shared by the JPA and the R2DBC
+ * repositories, which both bind {@code :name} parameters. Status and priority are bound as ordinals.
+ * <p>
+ * On Postgres the write, the read of the counter the task was in and the counter update are one statement. H2 has
+ * no data-modifying CTEs, so there the write returns the old row from {@code OLD TABLE} and the caller moves the
+ * counters with {@link #ADJUST}. Either way every statement returns the status and priority the task was counted
+ * in and its version.
+ */
+public final class TaskWriteStatements {
+
+    public static final String ADJUST = """
+            UPDATE tb_task_stats SET task_count = task_count + :delta
+            WHERE user_id = :userId AND status = :status AND priority = :priority
+            """;
+
+    private TaskWriteStatements() {}
+
+    /**
+     * Returns the status and priority the task had and its new version. The row is locked before it is read, so a
+     * concurrent patch cannot move the task between the read and the write.
+     */
+    public static String patch(boolean postgres, TaskPatch patch, boolean versioned) {
+        if (!postgres) {
+            return "SELECT status, priority, version + 1 AS version FROM OLD TABLE ("
+                    + "UPDATE tb_tasks SET " + assignments(patch, "version")
+                    + " WHERE id = :taskId AND user_id = :userId" + (versioned ? " AND version = :version" : "")
+                    + ")";
+        }
+        // Both counters are updated by one statement that reaches them through the primary key in (status,
+        // priority) order, the order every other writer locks them in
+        return """
+                WITH counted AS (
+                    SELECT id, status, priority FROM tb_tasks WHERE id = :taskId AND user_id = :userId FOR UPDATE
+                ), patched AS (
+                    UPDATE tb_tasks t SET %s
+                    FROM counted c
+                    WHERE t.id = c.id%s
+                    RETURNING c.status AS old_status, c.priority AS old_priority, t.status, t.priority, t.version
+                ), moved AS (
+                    UPDATE tb_task_stats s
+                    SET task_count = s.task_count
+                        + CASE WHEN s.status = p.status AND s.priority = p.priority THEN 1 ELSE -1 END
+                    FROM patched p
+                    WHERE s.user_id = :userId
+                    AND (p.status <> p.old_status OR p.priority <> p.old_priority)
+                    AND ((s.status = p.old_status AND s.priority = p.old_priority) OR (s.status = p.status AND s.priority = p.priority))
+                )
+                SELECT old_status AS status, old_priority AS priority, version FROM patched
+                """.formatted(assignments(patch, "t.version"), versioned ? " AND t.version = :version" : "");
+    }
+
+    /**
+     * Returns the status, priority and version the task was deleted at.
+     */
+    public static String delete(boolean postgres, boolean versioned) {
+        var where = "WHERE id = :taskId AND user_id = :userId" + (versioned ? " AND version = :version" : "");
+        if (!postgres) return "SELECT status, priority, version FROM OLD TABLE (DELETE FROM tb_tasks " + where + ")";
+        return """
+                WITH deleted AS (
+                    DELETE FROM tb_tasks %s
+                    RETURNING status, priority, version
+                ), uncounted AS (
+                    UPDATE tb_task_stats s SET task_count = s.task_count - 1
+                    FROM deleted d
+                    WHERE s.user_id = :userId AND s.status = d.status AND s.priority = d.priority
+                )
+                SELECT status, priority, version FROM deleted
+                """.formatted(where);
+    }
+
+    private static String assignments(TaskPatch patch, String version) {
+        var sql = new StringBuilder("updated_at = :updatedAt, version = ").append(version).append(" + 1");
+        if (patch.title() != null) sql.append(", title = :title");
+        if (patch.description() != null) sql.append(", description = :description");
+        if (patch.priority() != null) sql.append(", priority = :priority");
+        if (patch.status() != null) sql.append(", status = :status");
+        return sql.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+
+import java.util.UUID;
+
+/**
+ * Login projection: one row per authority of the user, without touching tasks or timestamps.
+ */
+public record UserCredentials(
+        UUID userId,
+        String username,
+        String email,
+        String password,
+        UserAuthority authority
+) {}
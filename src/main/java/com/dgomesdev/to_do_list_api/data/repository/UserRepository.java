@@ -1,14 +1,60 @@
 package com.dgomesdev.to_do_list_api.data.repository;
 
 import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
 
-    Optional<UserEntity> findUserByEmail(String email);
-}
\ No newline at end of file
+    /**
+     * Matches the e-mail case-insensitively, backed by the unique index on {@code lower(email)}.
+     */
+    @EntityGraph(attributePaths = "userAuthorities")
+    @Query("SELECT u FROM tb_user u WHERE LOWER(u.email) = LOWER(:email)")
+    Optional<UserEntity> findUserByEmail(@Param("email") String email);
+
+    /**
+     * Loads the user and its authorities in a single joined SELECT. Tasks are left out on purpose,
+     * pair it with {@link TaskRepository#findAllByUserId(UUID)} to build a full user.
+     */
+    @EntityGraph(attributePaths = "userAuthorities")
+    @Query("SELECT u FROM tb_user u WHERE u.id = :userId")
+    Optional<UserEntity> findWithAuthoritiesById(@Param("userId") UUID userId);
+
+    @Query("""
+            SELECT new com.dgomesdev.to_do_list_api.data.repository.UserCredentials(u.id, u.username, u.email, u.password, a)
+            FROM tb_user u LEFT JOIN u.userAuthorities a
+            WHERE LOWER(u.email) = LOWER(:email)
+            """)
+    List<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * Aggregates the user's tasks through the (user_id, updated_at, id) index, without reading a task row.
+     */
+    @Query("""
+            SELECT new com.dgomesdev.to_do_list_api.domain.model.UserVersion(u.version, MAX(t.updatedAt), COUNT(t.id))
+            FROM tb_user u LEFT JOIN u.tasks t
+            WHERE u.id = :userId
+            GROUP BY u.id, u.version
+            """)
+    Optional<UserVersion> findVersionById(@Param("userId") UUID userId);
+
+    @Query("SELECT u.id FROM tb_user u WHERE u.id > :after ORDER BY u.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE tb_user u SET u.password = :password, u.updatedAt = :updatedAt, u.version = u.version + 1 WHERE u.id = :userId")
+    int updatePassword(@Param("userId") UUID userId, @Param("password") String password, @Param("updatedAt") Date updatedAt);
+}
@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+/**
+ * A request the application itself rejected as invalid. Its message is written for the client and is the only one
+ * a response echoes, so it must never carry raw input.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
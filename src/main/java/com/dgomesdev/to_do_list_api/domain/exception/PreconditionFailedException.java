@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    private final String currentETag;
+
+    public PreconditionFailedException(String currentETag) {
+        super("The resource has changed, current ETag is " + currentETag, null, false, false);
+        this.currentETag = currentETag;
+    }
+
+    public String getCurrentETag() {
+        return currentETag;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String route, long retryAfterSeconds) {
+        super("Too many " + route + " requests, retry in " + retryAfterSeconds + " seconds", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String resource, long retryAfterSeconds) {
+        super(resource + " is overloaded, retry in " + retryAfterSeconds + " seconds", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
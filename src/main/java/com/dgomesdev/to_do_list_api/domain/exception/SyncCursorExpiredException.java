@@ -0,0 +1,7 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+public class SyncCursorExpiredException extends RuntimeException {
+    public SyncCursorExpiredException() {
+        super("Sync cursor is older than the deleted task history, run a full sync", null, false, false);
+    }
+}
@@ -3,8 +3,25 @@ package com.dgomesdev.to_do_list_api.domain.exception;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
+/**
+ * Thrown on every request for a stale or foreign task id, so it skips the stack trace and only builds its
+ * message when something reads it. The response body does not need either.
+ */
 public class TaskNotFoundException extends NoSuchElementException {
+
+    private final UUID taskId;
+
     public TaskNotFoundException(UUID taskId) {
-        super("Task with taskId " + taskId + " not found");
+        this.taskId = taskId;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Task with taskId " + taskId + " not found";
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
     }
-}
\ No newline at end of file
+}
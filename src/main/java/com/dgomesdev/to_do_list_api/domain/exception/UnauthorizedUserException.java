@@ -4,7 +4,15 @@ import java.util.UUID;
 
 public class UnauthorizedUserException extends RuntimeException {
 
+    private final UUID userId;
+
     public UnauthorizedUserException(UUID userId) {
-        super("Unauthorized access for user with id " + userId);
+        super(null, null, false, false);
+        this.userId = userId;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Unauthorized access for user with id " + userId;
     }
 }
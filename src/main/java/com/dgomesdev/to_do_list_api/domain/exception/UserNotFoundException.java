@@ -4,11 +4,27 @@ import java.util.NoSuchElementException;
 import java.util.UUID;
 
 public class UserNotFoundException extends NoSuchElementException {
+
+    private final String field;
+    private final Object value;
+
     public UserNotFoundException(UUID userId) {
-        super("User with userId " + userId + " not found");
+        this.field = "userId";
+        this.value = userId;
     }
 
     public UserNotFoundException(String email) {
-        super("User with email " + email + " not found");
+        this.field = "email";
+        this.value = email;
+    }
+
+    @Override
+    public String getMessage() {
+        return "User with " + field + " " + value + " not found";
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
     }
-}
\ No newline at end of file
+}
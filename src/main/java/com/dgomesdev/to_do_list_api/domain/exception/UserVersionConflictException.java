@@ -0,0 +1,21 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+
+/**
+ * A user write expected a version the user has already moved past. Carries the current user so the client can merge
+ * without another read.
+ */
+public class UserVersionConflictException extends RuntimeException {
+
+    private final UserModel currentUser;
+
+    public UserVersionConflictException(UserModel currentUser) {
+        super("User " + currentUser.getUserId() + " is at version " + currentUser.getVersion(), null, false, false);
+        this.currentUser = currentUser;
+    }
+
+    public UserModel getCurrentUser() {
+        return currentUser;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dgomesdev.to_do_list_api.domain.exception;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+
+/**
+ * A write expected a version the task has already moved past. Carries the current task so the client can merge
+ * without another read.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private final TaskModel currentTask;
+    private final boolean preconditionFailed;
+
+    public VersionConflictException(TaskModel currentTask) {
+        this(currentTask, false);
+    }
+
+    public VersionConflictException(TaskModel currentTask, boolean preconditionFailed) {
+        super("Task " + currentTask.getTaskId() + " is at version " + currentTask.getVersion(), null, false, false);
+        this.currentTask = currentTask;
+        this.preconditionFailed = preconditionFailed;
+    }
+
+    public TaskModel getCurrentTask() {
+        return currentTask;
+    }
+
+    /**
+     * True when the expected version came from If-Match, which answers 412 rather than 409.
+     */
+    public boolean isPreconditionFailed() {
+        return preconditionFailed;
+    }
+}
@@ -0,0 +1,13 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record AuthenticatedUser(
+        UUID userId,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt
+) {}
@@ -0,0 +1,21 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+public record MailOutboxStats(
+        long enqueued,
+        long sent,
+        long retried,
+        long deadLettered,
+        long rejected,
+        long batches,
+        long batchedMails,
+        long totalBatchMillis,
+        long maxBatchMillis
+) {
+    public double averageBatchSize() {
+        return batches == 0 ? 0 : (double) batchedMails / batches;
+    }
+
+    public double averageBatchMillis() {
+        return batches == 0 ? 0 : (double) totalBatchMillis / batches;
+    }
+}
@@ -0,0 +1,8 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+public enum MailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
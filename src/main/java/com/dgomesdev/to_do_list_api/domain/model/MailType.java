@@ -0,0 +1,6 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+public enum MailType {
+    WELCOME,
+    RESET_PASSWORD
+}
@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.data.entity.MailOutboxEntity;
+
+import java.util.UUID;
+
+public record OutboundMail(
+        UUID mailId,
+        MailType type,
+        String to,
+        String username,
+        String code
+) {
+    public static OutboundMail fromEntity(MailOutboxEntity mail) {
+        return new OutboundMail(mail.getId(), mail.getType(), mail.getRecipient(), mail.getUsername(), mail.getCode());
+    }
+}
@@ -0,0 +1,30 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * One entry of a delta sync: the current state of a created or updated task, or the id of a deleted one.
+ */
+public record TaskChange(TaskChangeType type, UUID taskId, TaskModel task, Date changedAt) {
+
+    /**
+     * Same order as the database: by change time, then by task id compared as unsigned bytes like Postgres and H2
+     * do, which {@link UUID#compareTo} does not.
+     */
+    public static final Comparator<TaskChange> ORDER = Comparator
+            .comparing((TaskChange change) -> change.changedAt().toInstant())
+            .thenComparing(TaskChange::taskId, (a, b) -> {
+                int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    public static TaskChange upsert(TaskModel task) {
+        return new TaskChange(TaskChangeType.UPSERT, task.getTaskId(), task, task.getUpdatedAt());
+    }
+
+    public static TaskChange delete(UUID taskId, Date deletedAt) {
+        return new TaskChange(TaskChangeType.DELETE, taskId, null, deletedAt);
+    }
+}
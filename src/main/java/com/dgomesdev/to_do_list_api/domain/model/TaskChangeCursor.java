@@ -0,0 +1,49 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+public record TaskChangeCursor(Instant changedAt, UUID taskId) {
+
+    public static final TaskChangeCursor START = new TaskChangeCursor(Instant.EPOCH, new UUID(0L, 0L));
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskChangeCursor of(TaskChange change) {
+        return new TaskChangeCursor(change.changedAt().toInstant(), change.taskId());
+    }
+
+    /**
+     * Cursor past every change at or before {@code changedAt}: the all-ones id sorts last as unsigned bytes.
+     */
+    public static TaskChangeCursor after(Instant changedAt) {
+        return new TaskChangeCursor(changedAt, new UUID(-1L, -1L));
+    }
+
+    public static TaskChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return START;
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new TaskChangeCursor(
+                    Instant.parse(decoded.substring(0, separatorIndex)),
+                    UUID.fromString(decoded.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public boolean isStart() {
+        return START.equals(this);
+    }
+
+    public String encode() {
+        var raw = changedAt.toString() + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,5 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.List;
+
+public record TaskChangesModel(List<TaskChange> changes, String nextCursor, boolean hasMore) {}
@@ -0,0 +1,38 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+public record TaskCursor(Instant createdAt, UUID taskId) {
+
+    public static final TaskCursor START = new TaskCursor(Instant.EPOCH, new UUID(0L, 0L));
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskCursor of(TaskModel task) {
+        return new TaskCursor(task.getCreatedAt().toInstant(), task.getTaskId());
+    }
+
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return START;
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new TaskCursor(
+                    Instant.parse(decoded.substring(0, separatorIndex)),
+                    UUID.fromString(decoded.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        var raw = createdAt.toString() + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,10 +4,17 @@ import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
 import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
 import lombok.Getter;
 
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Date;
 import java.util.UUID;
 
 @Getter
-public class TaskModel {
+public class TaskModel implements Serializable {
+
+    // Cached in Redis with Java serialization: keep it fixed and bump CacheNames.REMOTE_KEY_VERSION on incompatible changes
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private final UUID taskId;
     private final String title;
@@ -15,6 +22,9 @@ public class TaskModel {
     private final Priority priority;
     private final Status status;
     private final UUID userId;
+    private final Date createdAt;
+    private final Date updatedAt;
+    private final Long version;
 
     private TaskModel(Builder builder) {
         this.taskId = builder.taskId;
@@ -23,6 +33,9 @@ public class TaskModel {
         this.priority = builder.priority;
         this.status = builder.status;
         this.userId = builder.userId;
+        this.createdAt = builder.createdAt;
+        this.updatedAt = builder.updatedAt;
+        this.version = builder.version;
     }
 
     public static class Builder {
@@ -32,6 +45,54 @@ public class TaskModel {
         private Priority priority;
         private Status status;
         private UUID userId;
+        private Date createdAt;
+        private Date updatedAt;
+        private Long version;
+
+        public Builder withTaskId(UUID taskId) {
+            this.taskId = taskId;
+            return this;
+        }
+
+        public Builder withTitle(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder withDescription(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder withPriority(Priority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Builder withStatus(Status status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder withUserId(UUID userId) {
+            this.userId = userId;
+            return this;
+        }
+
+        public Builder withCreatedAt(Date createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder withUpdatedAt(Date updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
 
         public Builder fromRequest(TaskRequestDto taskRequestDto) {
             this.title = taskRequestDto.title();
@@ -48,6 +109,9 @@ public class TaskModel {
             this.priority = taskEntity.getPriority();
             this.status = taskEntity.getStatus();
             this.userId = taskEntity.getUser().getId();
+            this.createdAt = taskEntity.getCreatedAt();
+            this.updatedAt = taskEntity.getUpdatedAt();
+            this.version = taskEntity.getVersion();
             return this;
         }
 
@@ -0,0 +1,22 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.dto.request.TaskOperationRequestDto;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+
+import java.util.UUID;
+
+/**
+ * One entry of a batch. {@code task} carries the fields to write; for UPDATE only its non-null fields are applied.
+ */
+public record TaskOperation(TaskOperationType type, UUID taskId, TaskModel task) {
+
+    public static TaskOperation fromRequest(TaskOperationRequestDto request) {
+        return new TaskOperation(
+                request.type(),
+                request.taskId(),
+                new TaskModel.Builder()
+                        .fromRequest(new TaskRequestDto(request.title(), request.description(), request.priority(), request.status()))
+                        .build()
+        );
+    }
+}
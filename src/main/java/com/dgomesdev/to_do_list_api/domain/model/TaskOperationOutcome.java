@@ -0,0 +1,10 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+public enum TaskOperationOutcome {
+    CREATED,
+    UPDATED,
+    DELETED,
+    INVALID,
+    NOT_FOUND,
+    UNAUTHORIZED
+}
@@ -0,0 +1,16 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.UUID;
+
+public record TaskOperationResult(
+        int index,
+        TaskOperationType type,
+        UUID taskId,
+        TaskOperationOutcome outcome,
+        TaskModel task,
+        String error
+) {
+    public static TaskOperationResult failed(int index, TaskOperation operation, TaskOperationOutcome outcome, String error) {
+        return new TaskOperationResult(index, operation.type(), operation.taskId(), outcome, null, error);
+    }
+}
@@ -0,0 +1,21 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.dto.request.TaskPatchRequestDto;
+
+/**
+ * Partial task update. Null fields are left untouched, so only the supplied columns are written.
+ */
+public record TaskPatch(String title, String description, Priority priority, Status status) {
+
+    public static TaskPatch fromRequest(TaskPatchRequestDto request) {
+        return new TaskPatch(request.title(), request.description(), request.priority(), request.status());
+    }
+
+    public static TaskPatch fromModel(TaskModel task) {
+        return new TaskPatch(task.getTitle(), task.getDescription(), task.getPriority(), task.getStatus());
+    }
+
+    public boolean isEmpty() {
+        return title == null && description == null && priority == null && status == null;
+    }
+}
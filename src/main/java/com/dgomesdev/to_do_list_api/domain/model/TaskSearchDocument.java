@@ -0,0 +1,13 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.UUID;
+
+/**
+ * The searchable text of a task.
+ */
+public record TaskSearchDocument(UUID taskId, String title, String description) {
+
+    public static TaskSearchDocument fromModel(TaskModel task) {
+        return new TaskSearchDocument(task.getTaskId(), task.getTitle(), task.getDescription());
+    }
+}
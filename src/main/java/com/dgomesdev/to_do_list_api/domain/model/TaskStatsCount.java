@@ -0,0 +1,3 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+public record TaskStatsCount(Status status, Priority priority, Long count) {}
@@ -0,0 +1,42 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Changes to a user's task counters. They are handed out in (status, priority) order, so two transactions moving
+ * tasks between the same counters lock their rows in the same order and cannot deadlock.
+ */
+public class TaskStatsDelta {
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final long[] deltas = new long[STATUSES.length * PRIORITIES.length];
+
+    public TaskStatsDelta add(TaskStatsKey key) {
+        deltas[index(key)]++;
+        return this;
+    }
+
+    public TaskStatsDelta remove(TaskStatsKey key) {
+        deltas[index(key)]--;
+        return this;
+    }
+
+    public TaskStatsDelta move(TaskStatsKey from, TaskStatsKey to) {
+        return remove(from).add(to);
+    }
+
+    /**
+     * Passes every counter that changed, with the change as its count.
+     */
+    public void forEach(Consumer<TaskStatsCount> action) {
+        for (int i = 0; i < deltas.length; i++)
+            if (deltas[i] != 0)
+                action.accept(new TaskStatsCount(STATUSES[i / PRIORITIES.length], PRIORITIES[i % PRIORITIES.length], deltas[i]));
+    }
+
+    private static int index(TaskStatsKey key) {
+        return key.status().ordinal() * PRIORITIES.length + key.priority().ordinal();
+    }
+}
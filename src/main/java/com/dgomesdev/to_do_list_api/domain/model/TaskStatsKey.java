@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+
+/**
+ * The counter a task is counted in.
+ */
+public record TaskStatsKey(Status status, Priority priority) {
+
+    public static TaskStatsKey fromEntity(TaskEntity task) {
+        return new TaskStatsKey(task.getStatus(), task.getPriority());
+    }
+
+    public static TaskStatsKey fromModel(TaskModel task) {
+        return new TaskStatsKey(task.getStatus(), task.getPriority());
+    }
+}
@@ -0,0 +1,25 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public record TaskStatsModel(long total, Map<Status, Long> byStatus, Map<Priority, Long> byPriority) {
+
+    /**
+     * Every status and priority is present, with 0 when no task has it.
+     */
+    public static TaskStatsModel fromCounts(List<TaskStatsCount> counts) {
+        var byStatus = new EnumMap<Status, Long>(Status.class);
+        var byPriority = new EnumMap<Priority, Long>(Priority.class);
+        for (var status : Status.values()) byStatus.put(status, 0L);
+        for (var priority : Priority.values()) byPriority.put(priority, 0L);
+        long total = 0;
+        for (var count : counts) {
+            byStatus.merge(count.status(), count.count(), Long::sum);
+            byPriority.merge(count.priority(), count.count(), Long::sum);
+            total += count.count();
+        }
+        return new TaskStatsModel(total, byStatus, byPriority);
+    }
+}
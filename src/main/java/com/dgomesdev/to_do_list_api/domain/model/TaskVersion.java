@@ -0,0 +1,10 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Conditional request projection: enough to check ownership and build the ETag and Last-Modified without loading
+ * the task.
+ */
+public record TaskVersion(UUID userId, Long version, Date updatedAt) {}
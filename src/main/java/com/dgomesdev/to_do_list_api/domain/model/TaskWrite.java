@@ -0,0 +1,7 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+/**
+ * What a write of one task returns from the statement itself: the counter the task was counted in before the write,
+ * and its version after a patch or the version it had when deleted.
+ */
+public record TaskWrite(TaskStatsKey counted, long version) {}
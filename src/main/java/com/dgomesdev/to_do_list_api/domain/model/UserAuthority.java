@@ -7,11 +7,13 @@ public enum UserAuthority {
     USER,
     ADMIN;
 
+    private final GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(name());
+
     public static GrantedAuthority toGrantedAuthority(UserAuthority userAuthority) {
-        return new SimpleGrantedAuthority(userAuthority.name());
+        return userAuthority.grantedAuthority;
     }
 
     public static UserAuthority fromGrantedAuthority(GrantedAuthority grantedAuthority) {
         return UserAuthority.valueOf(grantedAuthority.getAuthority());
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package com.dgomesdev.to_do_list_api.domain.model;
 
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
 import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.security.core.userdetails.User;
 
+import java.io.Serial;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -12,9 +15,15 @@ import java.util.UUID;
 @Getter
 public class UserModel extends User {
 
+    // Cached in Redis with Java serialization: keep it fixed and bump CacheNames.REMOTE_KEY_VERSION on incompatible changes
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final UUID userId;
     private final List<TaskModel> tasks;
     private final String email;
+    private final Date updatedAt;
+    private final Long version;
     @Setter
     private String token;
 
@@ -29,6 +38,8 @@ public class UserModel extends User {
         this.userId = builder.userId;
         this.email = builder.email;
         this.tasks = builder.tasks;
+        this.updatedAt = builder.updatedAt;
+        this.version = builder.version;
     }
 
     public static class Builder {
@@ -39,6 +50,8 @@ public class UserModel extends User {
         private String email = "";
         private Set<UserAuthority> userAuthorities;
         private List<TaskModel> tasks = List.of();
+        private Date updatedAt;
+        private Long version;
 
         public Builder withUserId(UUID userId) {
             this.userId = userId;
@@ -65,14 +78,34 @@ public class UserModel extends User {
             return this;
         }
 
+        public Builder withTasks(List<TaskModel> tasks) {
+            this.tasks = tasks;
+            return this;
+        }
+
+        public Builder withUpdatedAt(Date updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Builder fromEntity(UserEntity userEntity) {
+            return fromEntity(userEntity, userEntity.getTasks());
+        }
+
+        public Builder fromEntity(UserEntity userEntity, List<TaskEntity> taskEntities) {
             this.userId = userEntity.getId();
             this.username = userEntity.getUsername();
             this.email = userEntity.getEmail();
             this.password = userEntity.getPassword();
             this.userAuthorities = userEntity.getUserAuthorities();
-            this.tasks = userEntity
-                    .getTasks()
+            this.updatedAt = userEntity.getUpdatedAt();
+            this.version = userEntity.getVersion();
+            this.tasks = taskEntities
                     .stream()
                     .map(task -> new TaskModel.Builder().fromEntity(task).build()).toList();
             return this;
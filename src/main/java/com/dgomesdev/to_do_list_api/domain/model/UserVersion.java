@@ -0,0 +1,24 @@
+package com.dgomesdev.to_do_list_api.domain.model;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * What a rendered user depends on: its own row and its task list. Every user write bumps its version, a task write
+ * moves the latest task time and a delete changes the count, so the triple changes whenever the response would.
+ * A user write only depends on the version, which it compares inside the write.
+ */
+public record UserVersion(Long version, Date tasksUpdatedAt, Long taskCount) {
+
+    public static UserVersion of(UserModel user) {
+        return new UserVersion(
+                user.getVersion(),
+                user.getTasks().stream()
+                        .map(TaskModel::getUpdatedAt)
+                        .filter(Objects::nonNull)
+                        .max(Date::compareTo)
+                        .orElse(null),
+                (long) user.getTasks().size()
+        );
+    }
+}
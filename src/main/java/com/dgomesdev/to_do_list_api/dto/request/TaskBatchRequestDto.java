@@ -0,0 +1,10 @@
+package com.dgomesdev.to_do_list_api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record TaskBatchRequestDto(
+        @NotEmpty @Valid List<TaskOperationRequestDto> operations
+) {}
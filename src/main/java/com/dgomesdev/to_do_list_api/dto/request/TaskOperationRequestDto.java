@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.dto.request;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationType;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record TaskOperationRequestDto(
+        @NotNull TaskOperationType type,
+        UUID taskId,
+        String title,
+        String description,
+        Priority priority,
+        Status status
+) {}
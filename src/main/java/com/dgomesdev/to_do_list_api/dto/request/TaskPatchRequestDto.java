@@ -0,0 +1,12 @@
+package com.dgomesdev.to_do_list_api.dto.request;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+
+public record TaskPatchRequestDto(
+        String title,
+        String description,
+        Priority priority,
+        Status status,
+        Long version
+) {}
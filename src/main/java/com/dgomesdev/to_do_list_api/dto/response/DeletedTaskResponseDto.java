@@ -0,0 +1,8 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import java.util.UUID;
+
+/**
+ * @param version the version the task had when it was deleted
+ */
+public record DeletedTaskResponseDto(UUID taskId, Long version) {}
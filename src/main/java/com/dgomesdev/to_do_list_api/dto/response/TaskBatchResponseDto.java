@@ -0,0 +1,13 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationResult;
+
+import java.util.List;
+
+public record TaskBatchResponseDto(
+        List<TaskOperationResultDto> results
+) {
+    public static TaskBatchResponseDto fromResults(List<TaskOperationResult> results) {
+        return new TaskBatchResponseDto(results.stream().map(TaskOperationResultDto::new).toList());
+    }
+}
@@ -0,0 +1,20 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskChange;
+import com.dgomesdev.to_do_list_api.domain.model.TaskChangeType;
+
+import java.util.UUID;
+
+public record TaskChangeDto(
+        TaskChangeType type,
+        UUID taskId,
+        TaskResponseDto task
+) {
+    public TaskChangeDto(TaskChange change) {
+        this(
+                change.type(),
+                change.taskId(),
+                change.task() == null ? null : new TaskResponseDto(change.task())
+        );
+    }
+}
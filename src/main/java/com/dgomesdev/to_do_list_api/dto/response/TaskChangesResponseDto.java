@@ -0,0 +1,19 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskChangesModel;
+
+import java.util.List;
+
+public record TaskChangesResponseDto(
+        List<TaskChangeDto> changes,
+        String nextCursor,
+        boolean hasMore
+) {
+    public TaskChangesResponseDto(TaskChangesModel changes) {
+        this(
+                changes.changes().stream().map(TaskChangeDto::new).toList(),
+                changes.nextCursor(),
+                changes.hasMore()
+        );
+    }
+}
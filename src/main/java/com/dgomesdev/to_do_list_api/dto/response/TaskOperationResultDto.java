@@ -0,0 +1,32 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationResult;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationType;
+
+import java.util.UUID;
+
+public record TaskOperationResultDto(
+        int index,
+        TaskOperationType type,
+        UUID taskId,
+        int status,
+        TaskResponseDto task,
+        String error
+) {
+    public TaskOperationResultDto(TaskOperationResult result) {
+        this(
+                result.index(),
+                result.type(),
+                result.taskId(),
+                switch (result.outcome()) {
+                    case CREATED -> 201;
+                    case UPDATED, DELETED -> 200;
+                    case INVALID -> 400;
+                    case UNAUTHORIZED -> 401;
+                    case NOT_FOUND -> 404;
+                },
+                result.task() == null ? null : new TaskResponseDto(result.task()),
+                result.error()
+        );
+    }
+}
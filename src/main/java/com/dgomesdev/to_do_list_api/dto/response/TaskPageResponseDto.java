@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskPageModel;
+
+import java.util.List;
+
+public record TaskPageResponseDto(
+        List<TaskResponseDto> tasks,
+        String nextCursor
+) {
+    public TaskPageResponseDto(TaskPageModel page) {
+        this(
+                page.tasks().stream().map(TaskResponseDto::new).toList(),
+                page.nextCursor()
+        );
+    }
+}
@@ -11,7 +11,8 @@ public record TaskResponseDto(
         String title,
         String description,
         Priority priority,
-        Status status
+        Status status,
+        Long version
 ) {
     public TaskResponseDto(TaskModel task) {
         this(
@@ -19,7 +20,8 @@ public record TaskResponseDto(
                 task.getTitle(),
                 task.getDescription(),
                 task.getPriority(),
-                task.getStatus()
+                task.getStatus(),
+                task.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+
+import java.util.List;
+
+public record TaskSearchResponseDto(List<TaskResponseDto> tasks) {
+
+    public static TaskSearchResponseDto fromModels(List<TaskModel> tasks) {
+        return new TaskSearchResponseDto(tasks.stream().map(TaskResponseDto::new).toList());
+    }
+}
@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.dto.response;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsModel;
+
+import java.util.Map;
+
+public record TaskStatsResponseDto(
+        long total,
+        Map<Status, Long> byStatus,
+        Map<Priority, Long> byPriority
+) {
+    public TaskStatsResponseDto(TaskStatsModel stats) {
+        this(stats.total(), stats.byStatus(), stats.byPriority());
+    }
+}
@@ -18,8 +18,12 @@ import java.io.IOException;
 @Component
 public class AuthFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     @Autowired
     private TokenService tokenService;
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -29,8 +33,12 @@ public class AuthFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         var token = getToken(request);
         if (!token.isBlank()) {
-            var user = tokenService.getUserFromToken(token);
-            Authentication authentication = new UsernamePasswordAuthenticationToken(user.getUserId(), null, user.getAuthorities());
+            var user = verifiedTokenCache.get(token);
+            if (user == null) {
+                user = tokenService.getUserFromToken(token);
+                verifiedTokenCache.put(token, user);
+            }
+            Authentication authentication = new UsernamePasswordAuthenticationToken(user.userId(), null, user.authorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         filterChain.doFilter(request, response);
@@ -38,6 +46,9 @@ public class AuthFilter extends OncePerRequestFilter {
 
     private String getToken(HttpServletRequest request) {
         String authorizationHeader = request.getHeader("Authorization");
-        return (authorizationHeader != null) ? authorizationHeader.replace("Bearer ", "") : "";
+        if (authorizationHeader == null) return "";
+        return authorizationHeader.startsWith(BEARER_PREFIX)
+                ? authorizationHeader.substring(BEARER_PREFIX.length())
+                : authorizationHeader;
     }
-}
\ No newline at end of file
+}
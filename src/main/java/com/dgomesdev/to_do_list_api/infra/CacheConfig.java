@@ -0,0 +1,58 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.infra.cache.CacheNames;
+import com.dgomesdev.to_do_list_api.infra.cache.RemoteCacheGuard;
+import com.dgomesdev.to_do_list_api.infra.cache.TieredCache;
+import com.dgomesdev.to_do_list_api.infra.cache.TieredCacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public TieredCacheManager cacheManager(
+            ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+            @Value("${api.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${api.cache.local.ttl:PT30S}") Duration localTtl,
+            @Value("${api.cache.remote.enabled:true}") boolean remoteEnabled,
+            @Value("${api.cache.remote.ttl:PT10M}") Duration remoteTtl,
+            @Value("${api.cache.remote.retry-after:PT30S}") Duration remoteRetryAfter
+    ) {
+        var connectionFactory = remoteEnabled ? redisConnectionFactory.getIfAvailable() : null;
+        var remote = connectionFactory == null ? null : redisTemplate(connectionFactory);
+        var guard = new RemoteCacheGuard(remoteRetryAfter);
+
+        return new TieredCacheManager(
+                List.of(CacheNames.USERS, CacheNames.TASKS),
+                name -> new TieredCache(
+                        name,
+                        Caffeine.newBuilder()
+                                .maximumSize(localMaxSize)
+                                .expireAfterWrite(localTtl)
+                                .build(),
+                        remote,
+                        remoteTtl,
+                        guard
+                )
+        );
+    }
+
+    private static RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+        var template = new RedisTemplate<String, Object>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.java(CacheConfig.class.getClassLoader()));
+        template.afterPropertiesSet();
+        return template;
+    }
+}
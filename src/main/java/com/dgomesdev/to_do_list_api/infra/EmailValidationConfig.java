@@ -0,0 +1,26 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.service.validation.DisposableDomainRule;
+import com.dgomesdev.to_do_list_api.service.validation.EmailRule;
+import com.dgomesdev.to_do_list_api.service.validation.EmailValidator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class EmailValidationConfig {
+
+    @Bean
+    public EmailValidator emailValidator(
+            @Value("${api.validation.email.blocked-domains:}") List<String> blockedDomains,
+            ObjectProvider<EmailRule> customRules
+    ) {
+        List<EmailRule> rules = new ArrayList<>(customRules.orderedStream().toList());
+        if (!blockedDomains.isEmpty()) rules.add(new DisposableDomainRule(blockedDomains));
+        return new EmailValidator(rules);
+    }
+}
@@ -2,44 +2,154 @@ package com.dgomesdev.to_do_list_api.infra;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+import com.dgomesdev.to_do_list_api.domain.exception.PreconditionFailedException;
+import com.dgomesdev.to_do_list_api.domain.exception.RateLimitExceededException;
+import com.dgomesdev.to_do_list_api.domain.exception.ServiceOverloadedException;
+import com.dgomesdev.to_do_list_api.domain.exception.SyncCursorExpiredException;
 import com.dgomesdev.to_do_list_api.domain.exception.TaskNotFoundException;
 import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
 import com.dgomesdev.to_do_list_api.domain.exception.UserNotFoundException;
-import com.dgomesdev.to_do_list_api.dto.response.MessageDto;
+import com.dgomesdev.to_do_list_api.domain.exception.UserVersionConflictException;
+import com.dgomesdev.to_do_list_api.domain.exception.VersionConflictException;
+import com.dgomesdev.to_do_list_api.controller.EntityTags;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import com.dgomesdev.to_do_list_api.dto.response.TaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers errors with RFC 7807 {@code application/problem+json} bodies. The status of each exception type and its
+ * body are resolved and serialized once, so a flood of 401s or 404s costs a map lookup and a shared byte array.
+ * A subclass gets the rejection of its closest mapped superclass, resolved on its first occurrence.
+ * Bodies never echo exception messages, which carry ids, emails and raw input; only the application's own
+ * {@link InvalidRequestException} explains what was wrong.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final ObjectMapper PROBLEM_MAPPER = new ObjectMapper().addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+
+    private static final Map<Class<? extends Exception>, Rejection> REJECTIONS = Map.ofEntries(
+            rejection(IllegalArgumentException.class, HttpStatus.BAD_REQUEST, "The request is invalid"),
+            rejection(UnauthorizedUserException.class, HttpStatus.UNAUTHORIZED, "Access to this resource is not allowed"),
+            rejection(TokenExpiredException.class, HttpStatus.UNAUTHORIZED, "The token has expired"),
+            rejection(JWTDecodeException.class, HttpStatus.UNAUTHORIZED, "The token is malformed"),
+            rejection(UserNotFoundException.class, HttpStatus.NOT_FOUND, "User not found"),
+            rejection(TaskNotFoundException.class, HttpStatus.NOT_FOUND, "Task not found"),
+            rejection(DataIntegrityViolationException.class, HttpStatus.CONFLICT, "The request conflicts with existing data"),
+            rejection(ObjectOptimisticLockingFailureException.class, HttpStatus.CONFLICT, "The resource was changed by another request"),
+            rejection(BadCredentialsException.class, HttpStatus.NOT_ACCEPTABLE, "Wrong email or password"),
+            rejection(ServiceOverloadedException.class, HttpStatus.SERVICE_UNAVAILABLE, "The service is overloaded, retry later"),
+            rejection(SyncCursorExpiredException.class, HttpStatus.GONE, "The sync cursor has expired, run a full sync"),
+            rejection(PreconditionFailedException.class, HttpStatus.PRECONDITION_FAILED, "The resource has changed"),
+            rejection(RateLimitExceededException.class, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, retry later")
+    );
+    private static final Rejection INTERNAL_ERROR = Rejection.of(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+    /**
+     * {@link #REJECTIONS} resolved for every exception class seen so far, {@link #INTERNAL_ERROR} when none applies.
+     */
+    private static final Map<Class<?>, Rejection> RESOLVED_REJECTIONS = new ConcurrentHashMap<>();
+    /**
+     * Spring's own errors, such as an unknown path or an unreadable body, keyed by the status they carry.
+     */
+    private static final Map<Integer, Rejection> FRAMEWORK_REJECTIONS = new ConcurrentHashMap<>();
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<MessageDto> handleGeneralException(Exception exception) {
-        HttpStatus httpStatus;
-        if (
-                exception.getClass() == UnauthorizedUserException.class
-                || exception.getClass() == TokenExpiredException.class
-                || exception.getClass() == JWTDecodeException.class
-        ) httpStatus = HttpStatus.UNAUTHORIZED;
-        else if (
-                exception.getClass() == UserNotFoundException.class
-                || exception.getClass() == TaskNotFoundException.class
-        ) httpStatus = HttpStatus.NOT_FOUND;
-        else if (
-                exception.getClass() == DataIntegrityViolationException.class
-        ) httpStatus = HttpStatus.CONFLICT;
-        else if (
-                exception.getClass() == BadCredentialsException.class
-        ) httpStatus = HttpStatus.NOT_ACCEPTABLE;
-        else if (
-                exception.getClass() == IllegalArgumentException.class
-        ) httpStatus = HttpStatus.BAD_REQUEST;
-            else httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-        return ResponseEntity.status(httpStatus).body(
-                new MessageDto("An error occurred: " + exception.getMessage() + ", Exception: " + exception.getClass())
-        );
+    public ResponseEntity<byte[]> handleGeneralException(Exception exception) {
+        Rejection rejection;
+        if (exception instanceof InvalidRequestException)
+            rejection = Rejection.of(HttpStatus.BAD_REQUEST, exception.getMessage());
+        else if (exception instanceof ErrorResponse errorResponse)
+            rejection = FRAMEWORK_REJECTIONS.computeIfAbsent(
+                    errorResponse.getStatusCode().value(),
+                    status -> Rejection.of(errorResponse.getStatusCode(), null)
+            );
+        else rejection = RESOLVED_REJECTIONS.computeIfAbsent(exception.getClass(), GlobalExceptionHandler::resolve);
+        if (rejection == INTERNAL_ERROR) log.error("Unhandled exception", exception);
+        var response = ResponseEntity
+                .status(rejection.status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON);
+        if (exception instanceof ErrorResponse errorResponse)
+            response.headers(headers -> headers.addAll(errorResponse.getHeaders()));
+        if (exception instanceof ServiceOverloadedException overloaded)
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(overloaded.getRetryAfterSeconds()));
+        if (exception instanceof RateLimitExceededException rateLimited)
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimited.getRetryAfterSeconds()));
+        if (exception instanceof PreconditionFailedException preconditionFailed)
+            response.eTag(preconditionFailed.getCurrentETag());
+        return response.body(rejection.body());
+    }
+
+    /**
+     * Answers a lost race with the task as it is now, so the client can merge and retry with its version.
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<TaskResponseDto> handleVersionConflict(VersionConflictException conflict) {
+        return ResponseEntity
+                .status(conflict.isPreconditionFailed() ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT)
+                .headers(headers -> EntityTags.apply(headers, conflict.getCurrentTask()))
+                .body(new TaskResponseDto(conflict.getCurrentTask()));
+    }
+
+    /**
+     * Same for a user: the 412 carries the user as it is now and its ETag.
+     */
+    @ExceptionHandler(UserVersionConflictException.class)
+    public ResponseEntity<UserResponseDto> handleUserVersionConflict(UserVersionConflictException conflict) {
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(EntityTags.of(UserVersion.of(conflict.getCurrentUser())))
+                .body(new UserResponseDto(conflict.getCurrentUser()));
+    }
+
+    private static Rejection resolve(Class<?> type) {
+        for (var candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+            var rejection = REJECTIONS.get(candidate);
+            if (rejection != null) return rejection;
+        }
+        return INTERNAL_ERROR;
+    }
+
+    private static Map.Entry<Class<? extends Exception>, Rejection> rejection(
+            Class<? extends Exception> type,
+            HttpStatus status,
+            String detail
+    ) {
+        return Map.entry(type, Rejection.of(status, detail));
+    }
+
+    /**
+     * The body is shared between responses and must not be modified.
+     */
+    private record Rejection(HttpStatusCode status, byte[] body) {
+
+        static Rejection of(HttpStatusCode status, String detail) {
+            try {
+                return new Rejection(status, PROBLEM_MAPPER.writeValueAsBytes(ProblemDetail.forStatusAndDetail(status, detail)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.domain.model.MailOutboxStats;
+import com.dgomesdev.to_do_list_api.infra.cache.TieredCacheManager;
+import com.dgomesdev.to_do_list_api.infra.cache.TieredCacheStats;
+import com.dgomesdev.to_do_list_api.infra.metrics.RequestStatistics;
+import com.dgomesdev.to_do_list_api.infra.metrics.RequestStatisticsFilter;
+import com.dgomesdev.to_do_list_api.infra.security.BoundedPasswordEncoder;
+import com.dgomesdev.to_do_list_api.infra.threads.VirtualThreadPinningMonitor;
+import com.dgomesdev.to_do_list_api.service.interfaces.MailOutboxService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Everything here is exported at {@code /actuator/prometheus}. Spring Boot already instruments HTTP requests,
+ * repository invocations, HikariCP, Lettuce, the JVM and, once statistics are on, Hibernate. This adds the timers
+ * behind {@code @Timed}, Hibernate's work per request, and the counters the cache, mail outbox, password encoder
+ * and pinning monitor already keep. Those are read at scrape time, so the hot paths pay nothing for them.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put("hibernate.stats.factory", (StatisticsFactory) RequestStatistics::new);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry registry) {
+        var registration = new FilterRegistrationBean<>(new RequestStatisticsFilter(registry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(TieredCacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            cacheGets(registry, cacheManager, name, "local_hit", TieredCacheStats::localHits);
+            cacheGets(registry, cacheManager, name, "remote_hit", TieredCacheStats::remoteHits);
+            cacheGets(registry, cacheManager, name, "miss", TieredCacheStats::misses);
+            FunctionCounter.builder("api.cache.remote.errors", cacheManager, manager -> manager.getStats(name).remoteErrors())
+                    .tag("cache", name)
+                    .register(registry);
+            Gauge.builder("api.cache.local.size", cacheManager, manager -> manager.getStats(name).localSize())
+                    .tag("cache", name)
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder mailOutboxMetrics(MailOutboxService mailOutboxService) {
+        return registry -> {
+            outboxMails(registry, mailOutboxService, "enqueued", MailOutboxStats::enqueued);
+            outboxMails(registry, mailOutboxService, "sent", MailOutboxStats::sent);
+            outboxMails(registry, mailOutboxService, "retried", MailOutboxStats::retried);
+            outboxMails(registry, mailOutboxService, "dead_lettered", MailOutboxStats::deadLettered);
+            outboxMails(registry, mailOutboxService, "rejected", MailOutboxStats::rejected);
+            FunctionTimer.builder(
+                            "api.mail.outbox.batches",
+                            mailOutboxService,
+                            service -> service.getStats().batches(),
+                            service -> service.getStats().totalBatchMillis(),
+                            TimeUnit.MILLISECONDS
+                    )
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordEncoderMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("api.password.hash.cost", passwordEncoder, BoundedPasswordEncoder::getCost)
+                    .register(registry);
+            Gauge.builder("api.password.hash.queue", passwordEncoder, BoundedPasswordEncoder::getQueueDepth)
+                    .register(registry);
+            FunctionCounter.builder("api.password.hash.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Only the totals are exported, the per-site counts stay in {@link VirtualThreadPinningMonitor#getStats()}
+     * so stack frames never become tag values.
+     */
+    @Bean
+    public MeterBinder pinningMetrics(ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> pinningMonitor.ifAvailable(monitor -> {
+            FunctionTimer.builder(
+                            "api.threads.pinned",
+                            monitor,
+                            current -> current.getStats().events(),
+                            current -> current.getStats().totalPinnedMillis(),
+                            TimeUnit.MILLISECONDS
+                    )
+                    .register(registry);
+            Gauge.builder("api.threads.pinned.max", monitor, current -> current.getStats().maxPinnedMillis())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        });
+    }
+
+    private static void cacheGets(
+            MeterRegistry registry,
+            TieredCacheManager cacheManager,
+            String name,
+            String result,
+            ToDoubleFunction<TieredCacheStats> count
+    ) {
+        FunctionCounter.builder("api.cache.gets", cacheManager, manager -> count.applyAsDouble(manager.getStats(name)))
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void outboxMails(
+            MeterRegistry registry,
+            MailOutboxService mailOutboxService,
+            String event,
+            ToDoubleFunction<MailOutboxStats> count
+    ) {
+        FunctionCounter.builder("api.mail.outbox.mails", mailOutboxService, service -> count.applyAsDouble(service.getStats()))
+                .tag("event", event)
+                .register(registry);
+    }
+}
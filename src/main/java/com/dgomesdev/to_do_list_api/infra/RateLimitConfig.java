@@ -0,0 +1,77 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.infra.cache.RemoteCacheGuard;
+import com.dgomesdev.to_do_list_api.infra.ratelimit.LocalRateLimiter;
+import com.dgomesdev.to_do_list_api.infra.ratelimit.RateLimit;
+import com.dgomesdev.to_do_list_api.infra.ratelimit.RateLimitFilter;
+import com.dgomesdev.to_do_list_api.infra.ratelimit.RateLimitRule;
+import com.dgomesdev.to_do_list_api.infra.ratelimit.RateLimiter;
+import com.dgomesdev.to_do_list_api.infra.ratelimit.RedisRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Each limit reads {@code <capacity>/<period>}, such as {@code 5/1m}. An empty value turns it off.
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            MeterRegistry registry,
+            @Value("${api.rate-limit.local.max-keys:100000}") long localMaxKeys,
+            @Value("${api.rate-limit.remote.enabled:true}") boolean remoteEnabled,
+            @Value("${api.rate-limit.remote.retry-after:PT30S}") Duration remoteRetryAfter
+    ) {
+        var template = remoteEnabled ? redisTemplate.getIfAvailable() : null;
+        return new RateLimiter(
+                new LocalRateLimiter(localMaxKeys),
+                template == null ? null : new RedisRateLimiter(template),
+                new RemoteCacheGuard("Redis rate limiter", "limiting per node", remoteRetryAfter),
+                registry
+        );
+    }
+
+    /**
+     * Ordered ahead of the security chain, behind the request statistics filter.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            @Value("${api.rate-limit.login.ip:20/1m}") String loginIp,
+            @Value("${api.rate-limit.login.email:5/1m}") String loginEmail,
+            @Value("${api.rate-limit.register.ip:5/10m}") String registerIp,
+            @Value("${api.rate-limit.register.email:3/1h}") String registerEmail,
+            @Value("${api.rate-limit.recover-password.ip:5/10m}") String recoverPasswordIp,
+            @Value("${api.rate-limit.recover-password.email:3/1h}") String recoverPasswordEmail,
+            @Value("${api.rate-limit.reset-password.ip:10/10m}") String resetPasswordIp,
+            @Value("${api.rate-limit.reset-password.email:5/10m}") String resetPasswordEmail
+    ) {
+        var rules = List.of(
+                new RateLimitRule("login", "/login", RateLimit.parse(loginIp), RateLimit.parse(loginEmail)),
+                new RateLimitRule("register", "/register", RateLimit.parse(registerIp), RateLimit.parse(registerEmail)),
+                new RateLimitRule("recover-password", "/recoverPassword", RateLimit.parse(recoverPasswordIp), RateLimit.parse(recoverPasswordEmail)),
+                new RateLimitRule("reset-password", "/resetPassword/**", RateLimit.parse(resetPasswordIp), RateLimit.parse(resetPasswordEmail))
+        );
+        var registration = new FilterRegistrationBean<>(new RateLimitFilter(rules, rateLimiter, objectMapper, exceptionResolver));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.service.search.InMemoryTaskSearchIndex;
+import com.dgomesdev.to_do_list_api.service.search.PostgresTaskSearchIndex;
+import com.dgomesdev.to_do_list_api.service.search.TaskSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+
+@Configuration
+public class SearchConfig {
+
+    /**
+     * Postgres searches its own full-text index; any other database gets one in memory, which the local limits
+     * bound.
+     */
+    @Bean
+    public TaskSearchIndex taskSearchIndex(
+            DataSource dataSource,
+            TaskRepository taskRepository,
+            @Value("${api.search.local.max-users:1000}") long localMaxUsers,
+            @Value("${api.search.local.idle-timeout:PT30M}") Duration localIdleTimeout
+    ) throws MetaDataAccessException {
+        var product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (DatabaseDriver.fromProductName(product) == DatabaseDriver.POSTGRESQL)
+            return new PostgresTaskSearchIndex(taskRepository);
+        return new InMemoryTaskSearchIndex(taskRepository::findSearchDocumentsByUserId, localMaxUsers, localIdleTimeout);
+    }
+}
@@ -1,6 +1,10 @@
 package com.dgomesdev.to_do_list_api.infra;
 
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.infra.security.BCryptCostCalibrator;
+import com.dgomesdev.to_do_list_api.infra.security.BoundedPasswordEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,10 +15,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
@@ -23,14 +28,28 @@ public class SecurityConfig {
     @Autowired
     private AuthFilter authFilter;
 
+    /**
+     * Only {@code /actuator/health} is open on the public port. The other endpoints are open on
+     * {@code management.server.port}, which is not routed publicly, and need the ADMIN authority anywhere else.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity httpSecurity,
+            @Value("${management.server.port:-1}") int managementPort,
+            @Value("${server.port:8080}") int serverPort
+    ) throws Exception {
+        RequestMatcher onManagementPort = request -> managementPort > 0
+                && managementPort != serverPort
+                && request.getLocalPort() == managementPort;
         return httpSecurity
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.POST, "/login", "/register", "/recoverPassword", "/resetPassword/**").permitAll()
                         .requestMatchers("/h2-console/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/reset-password").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(onManagementPort).permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(UserAuthority.ADMIN.name())
                         .anyRequest()
                         .authenticated()
                 )
@@ -45,8 +64,25 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * A fixed {@code api.security.password.cost} wins; otherwise the cost is calibrated at startup
+     * against {@code api.security.password.target-latency}.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${api.security.password.cost:0}") int cost,
+            @Value("${api.security.password.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${api.security.password.min-cost:10}") int minCost,
+            @Value("${api.security.password.max-cost:14}") int maxCost,
+            @Value("${api.security.password.threads:0}") int threads,
+            @Value("${api.security.password.queue-capacity:32}") int queueCapacity,
+            @Value("${api.security.password.timeout:PT2S}") Duration timeout
+    ) {
+        return new BoundedPasswordEncoder(
+                cost > 0 ? cost : BCryptCostCalibrator.calibrate(targetLatency, minCost, maxCost),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                timeout
+        );
     }
 }
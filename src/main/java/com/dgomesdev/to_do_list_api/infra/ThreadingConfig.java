@@ -0,0 +1,41 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.infra.threads.VirtualThreadPinningMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * {@code spring.threads.virtual.enabled=true} on a Java 21 runtime moves Tomcat requests, {@code @Scheduled}
+ * and {@code @Async} work and the mail outbox workers to virtual threads. On older runtimes Spring Boot
+ * silently keeps platform threads, so that case is logged.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    public ThreadingConfig(Environment environment) {
+        var requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (requested && !Threading.VIRTUAL.isActive(environment))
+            log.warn("Virtual threads were requested but need Java 21, running on Java {} with platform threads",
+                    Runtime.version().feature());
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(name = "api.threads.pinning.enabled", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${api.threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
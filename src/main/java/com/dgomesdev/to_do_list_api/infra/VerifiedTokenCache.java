@@ -0,0 +1,73 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.domain.model.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified tokens, keyed by the SHA-256 digest of the token so raw bearer
+ * tokens are never kept in memory. Entries are dropped once the token's exp claim has passed.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, AuthenticatedUser> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${api.security.token.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public AuthenticatedUser get(String token) {
+        var key = digest(token);
+        var user = entries.get(key);
+        if (user == null) return null;
+        if (isExpired(user, Instant.now())) {
+            entries.remove(key, user);
+            return null;
+        }
+        return user;
+    }
+
+    public void put(String token, AuthenticatedUser user) {
+        if (maxSize <= 0 || user.expiresAt() == null) return;
+        if (entries.size() >= maxSize) evict();
+        entries.put(digest(token), user);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        var now = Instant.now();
+        entries.values().removeIf(user -> isExpired(user, now));
+
+        // Still full of live tokens: drop arbitrary entries down to 90% so the scan isn't repeated on every put
+        var iterator = entries.keySet().iterator();
+        while (entries.size() >= maxSize * 9 / 10 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private boolean isExpired(AuthenticatedUser user, Instant now) {
+        return !user.expiresAt().isAfter(now);
+    }
+
+    private String digest(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.infra.cache;
+
+public final class CacheNames {
+
+    public static final String USERS = "users";
+    public static final String TASKS = "tasks";
+
+    /**
+     * Prefix of every Redis key. Bump it when a cached model changes incompatibly, so a deploy starts from fresh keys
+     * instead of reading entries the new classes cannot deserialize.
+     */
+    public static final String REMOTE_KEY_VERSION = "v2";
+
+    private CacheNames() {}
+}
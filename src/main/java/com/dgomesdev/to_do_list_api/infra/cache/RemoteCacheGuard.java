@@ -0,0 +1,50 @@
+package com.dgomesdev.to_do_list_api.infra.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * Shared circuit breaker for the Redis tier. After a failure every cache skips Redis for {@code retryAfter},
+ * so an outage costs one timeout per window instead of one per lookup. The rate limiter keeps its own instance.
+ */
+public class RemoteCacheGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteCacheGuard.class);
+
+    private final String resource;
+    private final String fallback;
+    private final long retryAfterNanos;
+    private volatile long openUntil;
+    private volatile boolean open;
+
+    public RemoteCacheGuard(Duration retryAfter) {
+        this("Redis cache tier", "serving from the database", retryAfter);
+    }
+
+    public RemoteCacheGuard(String resource, String fallback, Duration retryAfter) {
+        this.resource = resource;
+        this.fallback = fallback;
+        this.retryAfterNanos = retryAfter.toNanos();
+    }
+
+    public boolean isAvailable() {
+        return !open || System.nanoTime() - openUntil >= 0;
+    }
+
+    public void recordSuccess() {
+        if (open) {
+            open = false;
+            log.info("{} is available again", resource);
+        }
+    }
+
+    public void recordFailure(RuntimeException e) {
+        openUntil = System.nanoTime() + retryAfterNanos;
+        if (!open) {
+            open = true;
+            log.warn("{} unavailable, {} for {} ms: {}", resource, fallback, retryAfterNanos / 1_000_000, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.dgomesdev.to_do_list_api.infra.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-level cache: a small in-process Caffeine tier in front of a shared Redis tier.
+ * The local tier keeps a short TTL because other nodes only invalidate Redis.
+ * Any Redis error is treated as a miss and trips the {@link RemoteCacheGuard}, so reads fall back to the database.
+ * An entry that cannot be deserialized is only a miss: Redis itself answered, so the guard stays closed.
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    @Nullable
+    private final RedisTemplate<String, Object> remote;
+    private final Duration remoteTtl;
+    private final RemoteCacheGuard guard;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    public TieredCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+            @Nullable RedisTemplate<String, Object> remote,
+            Duration remoteTtl,
+            RemoteCacheGuard guard
+    ) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteTtl = remoteTtl;
+        this.guard = guard;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        var value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        value = remoteGet(key);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(key, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var cached = lookup(key);
+        if (cached != null) return (T) cached;
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key, value);
+        if (!remoteAvailable()) return;
+        try {
+            remote.opsForValue().set(remoteKey(key), value, remoteTtl);
+            guard.recordSuccess();
+        } catch (RuntimeException e) {
+            remoteFailed(e);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        if (!remoteAvailable()) return;
+        try {
+            remote.delete(remoteKey(key));
+            guard.recordSuccess();
+        } catch (RuntimeException e) {
+            // The Redis copy expires on its own TTL, which bounds how long it can be served stale
+            remoteFailed(e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+    }
+
+    public TieredCacheStats getStats() {
+        return new TieredCacheStats(
+                name,
+                localHits.sum(),
+                remoteHits.sum(),
+                misses.sum(),
+                remoteErrors.sum(),
+                local.estimatedSize()
+        );
+    }
+
+    @Nullable
+    private Object remoteGet(Object key) {
+        if (!remoteAvailable()) return null;
+        try {
+            var value = remote.opsForValue().get(remoteKey(key));
+            guard.recordSuccess();
+            return value;
+        } catch (SerializationException e) {
+            // Written by an incompatible build of the cached class; the put after the reload overwrites it
+            guard.recordSuccess();
+            return null;
+        } catch (RuntimeException e) {
+            remoteFailed(e);
+            return null;
+        }
+    }
+
+    private boolean remoteAvailable() {
+        return remote != null && guard.isAvailable();
+    }
+
+    private void remoteFailed(RuntimeException e) {
+        remoteErrors.increment();
+        guard.recordFailure(e);
+    }
+
+    private String remoteKey(Object key) {
+        return CacheNames.REMOTE_KEY_VERSION + "::" + name + "::" + key;
+    }
+}
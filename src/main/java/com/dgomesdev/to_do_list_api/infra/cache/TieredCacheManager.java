@@ -0,0 +1,39 @@
+package com.dgomesdev.to_do_list_api.infra.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Holds the fixed set of {@link TieredCache}s. Caches are transaction aware: puts and evictions issued inside
+ * a service transaction are applied after commit, so a rolled back write never invalidates or poisons the cache.
+ */
+public class TieredCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final List<TieredCache> caches;
+
+    public TieredCacheManager(Collection<String> cacheNames, Function<String, TieredCache> cacheFactory) {
+        this.caches = cacheNames.stream().map(cacheFactory).toList();
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return caches;
+    }
+
+    public List<TieredCacheStats> getStats() {
+        return caches.stream().map(TieredCache::getStats).toList();
+    }
+
+    public TieredCacheStats getStats(String cacheName) {
+        return caches.stream()
+                .filter(cache -> cache.getName().equals(cacheName))
+                .findFirst()
+                .map(TieredCache::getStats)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.infra.cache;
+
+public record TieredCacheStats(
+        String cacheName,
+        long localHits,
+        long remoteHits,
+        long misses,
+        long remoteErrors,
+        long localSize
+) {
+    public double hitRatio() {
+        long lookups = localHits + remoteHits + misses;
+        return lookups == 0 ? 0 : (double) (localHits + remoteHits) / lookups;
+    }
+}
@@ -0,0 +1,71 @@
+package com.dgomesdev.to_do_list_api.infra.metrics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's statistics are global to the session factory, so under load they cannot tell which endpoint issued
+ * a statement. This keeps them and also counts statements, entity loads and flushes for the request bound to the
+ * current thread, which {@link RequestStatisticsFilter} records per endpoint. Work outside a request, such as
+ * scheduled jobs, only reaches the global counters.
+ */
+public class RequestStatistics extends StatisticsImpl {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public RequestStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        onStatement();
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        onEntityLoad();
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        onFlush();
+    }
+
+    static Counts begin() {
+        var counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void onStatement() {
+        var counts = CURRENT.get();
+        if (counts != null) counts.statements++;
+    }
+
+    static void onEntityLoad() {
+        var counts = CURRENT.get();
+        if (counts != null) counts.entityLoads++;
+    }
+
+    static void onFlush() {
+        var counts = CURRENT.get();
+        if (counts != null) counts.flushes++;
+    }
+
+    /**
+     * Only touched by the request thread, so plain fields are enough.
+     */
+    static final class Counts {
+        long statements;
+        long entityLoads;
+        long flushes;
+    }
+}
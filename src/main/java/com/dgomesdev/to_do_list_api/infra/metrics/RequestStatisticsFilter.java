@@ -0,0 +1,63 @@
+package com.dgomesdev.to_do_list_api.infra.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the Hibernate work of each request as {@code api.request.statements}, {@code api.request.entity.loads}
+ * and {@code api.request.flushes}, tagged like {@code http.server.requests} with the method and the URI pattern.
+ * A growing maximum on one endpoint is the usual sign of an N+1 query.
+ * <p>
+ * It runs before the security filters so statements issued while authenticating are counted too.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry registry;
+
+    public RequestStatisticsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var counts = RequestStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.end();
+            var method = request.getMethod();
+            var uri = uri(request);
+            record("api.request.statements", method, uri, counts.statements);
+            record("api.request.entity.loads", method, uri, counts.entityLoads);
+            record("api.request.flushes", method, uri, counts.flushes);
+        }
+    }
+
+    private void record(String name, String method, String uri, long amount) {
+        DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(registry)
+                .record(amount);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.util.List;
+
+/**
+ * In-process copy of the buckets, with the same limits as Redis but counting only this node's requests.
+ * Since the shared bucket sees those requests and more, an empty local bucket means the shared one is empty too,
+ * so floods are rejected here without a round trip. When Redis is down it is the only tier left and enforces
+ * the limits per node.
+ */
+public class LocalRateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimiter(long maxKeys) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                // An untouched bucket is full again after its period, dropping it changes nothing
+                .expireAfter(Expiry.accessing((String key, Bucket bucket) -> bucket.limit.period()))
+                .build();
+    }
+
+    /**
+     * Checks every bucket and takes a token from each in one step, so concurrent requests cannot all pass the check
+     * before any of them consumed.
+     *
+     * @return milliseconds until every bucket holds a token, 0 when the request is allowed
+     */
+    public synchronized long tryAcquire(List<RateLimitKey> keys) {
+        var retryAfter = retryAfterMillis(keys);
+        if (retryAfter == 0) consume(keys);
+        return retryAfter;
+    }
+
+    private long retryAfterMillis(List<RateLimitKey> keys) {
+        var now = System.nanoTime();
+        long retryAfter = 0;
+        for (var key : keys) retryAfter = Math.max(retryAfter, bucket(key).retryAfterMillis(now));
+        return retryAfter;
+    }
+
+    private void consume(List<RateLimitKey> keys) {
+        var now = System.nanoTime();
+        for (var key : keys) bucket(key).consume(now);
+    }
+
+    private Bucket bucket(RateLimitKey key) {
+        return buckets.get(key.key(), ignored -> new Bucket(key.limit()));
+    }
+
+    private static final class Bucket {
+
+        private final RateLimit limit;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(RateLimit limit) {
+            this.limit = limit;
+            this.tokens = limit.capacity();
+            this.refilledAt = System.nanoTime();
+        }
+
+        synchronized long retryAfterMillis(long now) {
+            refill(now);
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / limit.tokensPerMilli());
+        }
+
+        synchronized void consume(long now) {
+            refill(now);
+            tokens = Math.max(0, tokens - 1);
+        }
+
+        private void refill(long now) {
+            var elapsedMillis = (now - refilledAt) / 1_000_000d;
+            if (elapsedMillis <= 0) return;
+            tokens = Math.min(limit.capacity(), tokens + elapsedMillis * limit.tokensPerMilli());
+            refilledAt = now;
+        }
+    }
+}
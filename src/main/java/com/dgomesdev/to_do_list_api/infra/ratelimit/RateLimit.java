@@ -0,0 +1,38 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * A token bucket holding up to {@code capacity} requests and refilled at {@code capacity} per {@code period},
+ * so a client may burst to the capacity and then gets one request every {@code period / capacity}.
+ */
+public record RateLimit(int capacity, Duration period) {
+
+    public static final RateLimit NONE = new RateLimit(0, Duration.ZERO);
+
+    /**
+     * Reads {@code <capacity>/<period>}, such as {@code 5/1m} or {@code 20/PT1H}. A blank value or a zero
+     * capacity turns the limit off.
+     */
+    public static RateLimit parse(String value) {
+        if (value == null || value.isBlank()) return NONE;
+        var separator = value.indexOf('/');
+        if (separator < 0) throw new IllegalArgumentException("Rate limit must look like 5/1m: " + value);
+        var capacity = Integer.parseInt(value.substring(0, separator).trim());
+        if (capacity <= 0) return NONE;
+        var period = DurationStyle.detectAndParse(value.substring(separator + 1).trim());
+        if (period.isNegative() || period.isZero())
+            throw new IllegalArgumentException("Rate limit period must be positive: " + value);
+        return new RateLimit(capacity, period);
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    public double tokensPerMilli() {
+        return (double) capacity / period.toMillis();
+    }
+}
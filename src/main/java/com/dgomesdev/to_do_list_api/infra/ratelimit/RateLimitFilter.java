@@ -0,0 +1,188 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import com.dgomesdev.to_do_list_api.domain.exception.RateLimitExceededException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.PayloadTooLargeException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Throttles the unauthenticated endpoints before the security chain and {@code AuthController} run, so a
+ * rejected request never reaches BCrypt, the database, Redis codes or SMTP. Buckets are kept per client IP
+ * and per email, the latter read from the JSON body, which is buffered and replayed to the controller.
+ * Rules match the path the container decoded and normalized, the one the controllers are mapped on, so an encoded
+ * or dotted spelling of a route is throttled like the plain one. Bodies above {@link #MAX_BODY_BYTES} are rejected
+ * with 413 before they are buffered.
+ * <p>
+ * Behind a proxy, set {@code server.forward-headers-strategy} so the client IP is the forwarded one.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+    /**
+     * Far above any credentials payload these routes accept.
+     */
+    static final int MAX_BODY_BYTES = 4 * 1024;
+
+    private final List<RateLimitRule> rules;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(
+            List<RateLimitRule> rules,
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            HandlerExceptionResolver exceptionResolver
+    ) {
+        this.rules = rules;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        var keys = new ArrayList<RateLimitKey>(2);
+        if (rule.ipLimit().isEnabled())
+            keys.add(new RateLimitKey(KEY_PREFIX + rule.route() + ":ip:" + request.getRemoteAddr(), rule.ipLimit()));
+        if (rule.emailLimit().isEnabled()) {
+            var body = readBody(request);
+            if (body == null) {
+                exceptionResolver.resolveException(request, response, null, new PayloadTooLargeException(null));
+                return;
+            }
+            request = new BufferedBodyRequest(request, body);
+            var email = email(body);
+            if (!email.isEmpty())
+                keys.add(new RateLimitKey(KEY_PREFIX + rule.route() + ":email:" + hash(email), rule.emailLimit()));
+        }
+        var retryAfterMillis = rateLimiter.acquire(keys);
+        if (retryAfterMillis > 0) {
+            var retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+            exceptionResolver.resolveException(request, response, null, new RateLimitExceededException(rule.route(), retryAfterSeconds));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitRule match(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) return null;
+        var path = request.getPathInfo() == null ? request.getServletPath() : request.getServletPath() + request.getPathInfo();
+        for (var rule : rules)
+            if (pathMatcher.match(rule.pathPattern(), path)) return rule;
+        return null;
+    }
+
+    /**
+     * Returns null when the body is larger than {@link #MAX_BODY_BYTES}, whether or not it declared its length.
+     */
+    private static byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) return null;
+        var body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        return body.length > MAX_BODY_BYTES ? null : body;
+    }
+
+    /**
+     * Trimmed and lower-cased, so case and spacing cannot open new buckets.
+     * A body that is not JSON is left for the controller to reject.
+     */
+    private String email(byte[] body) {
+        try {
+            return objectMapper.readTree(body).path("email").asText("").trim().toLowerCase();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Keeps addresses out of the Redis key space.
+     */
+    private static String hash(String email) {
+        return UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The whole body is already in memory, so it is all available at once
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = getCharacterEncoding();
+            var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
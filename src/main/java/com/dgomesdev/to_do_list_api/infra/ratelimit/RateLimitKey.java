@@ -0,0 +1,6 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+/**
+ * One bucket to draw from, such as {@code rate-limit:login:ip:203.0.113.7}.
+ */
+public record RateLimitKey(String key, RateLimit limit) {}
@@ -0,0 +1,7 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+/**
+ * Limits for the {@code POST} requests matching {@code pathPattern}, counted per client IP and per email in the
+ * request body. Either limit can be {@link RateLimit#NONE}.
+ */
+public record RateLimitRule(String route, String pathPattern, RateLimit ipLimit, RateLimit emailLimit) {}
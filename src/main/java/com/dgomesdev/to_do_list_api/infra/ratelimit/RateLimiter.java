@@ -0,0 +1,53 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import com.dgomesdev.to_do_list_api.infra.cache.RemoteCacheGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Takes from the local tier first and only asks Redis when it allowed the request. A Redis error opens the
+ * {@link RemoteCacheGuard} and the local tier decides alone until Redis answers again.
+ */
+public class RateLimiter {
+
+    private final LocalRateLimiter local;
+    @Nullable
+    private final RedisRateLimiter remote;
+    private final RemoteCacheGuard guard;
+    private final Counter localRejections;
+    private final Counter remoteRejections;
+
+    public RateLimiter(LocalRateLimiter local, @Nullable RedisRateLimiter remote, RemoteCacheGuard guard, MeterRegistry registry) {
+        this.local = local;
+        this.remote = remote;
+        this.guard = guard;
+        this.localRejections = registry.counter("api.rate.limit.rejected", "tier", "local");
+        this.remoteRejections = registry.counter("api.rate.limit.rejected", "tier", "redis");
+    }
+
+    /**
+     * @return milliseconds the client has to wait, 0 when the request is allowed
+     */
+    public long acquire(List<RateLimitKey> keys) {
+        if (keys.isEmpty()) return 0;
+        // The local token is taken before Redis answers; a request Redis then rejects still counts against this node
+        var retryAfter = local.tryAcquire(keys);
+        if (retryAfter > 0) {
+            localRejections.increment();
+            return retryAfter;
+        }
+        if (remote == null || !guard.isAvailable()) return 0;
+        try {
+            retryAfter = remote.acquire(keys);
+            guard.recordSuccess();
+        } catch (RuntimeException e) {
+            guard.recordFailure(e);
+            return 0;
+        }
+        if (retryAfter > 0) remoteRejections.increment();
+        return retryAfter;
+    }
+}
@@ -0,0 +1,36 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared buckets in Redis, so the limits hold across nodes. The script is sent by its SHA and uses the Redis
+ * clock, so nodes with drifting clocks still refill at the same rate.
+ */
+public class RedisRateLimiter {
+
+    private static final RedisScript<Long> SCRIPT = RedisScript.of(new ClassPathResource("scripts/rate-limit.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return milliseconds until every bucket holds a token, 0 when a token was taken from each of them
+     */
+    public long acquire(List<RateLimitKey> keys) {
+        var args = new ArrayList<String>(keys.size() * 2);
+        for (var key : keys) {
+            args.add(String.valueOf(key.limit().capacity()));
+            args.add(String.valueOf(key.limit().period().toMillis()));
+        }
+        var retryAfter = redisTemplate.execute(SCRIPT, keys.stream().map(RateLimitKey::key).toList(), args.toArray());
+        return retryAfter == null ? 0 : retryAfter;
+    }
+}
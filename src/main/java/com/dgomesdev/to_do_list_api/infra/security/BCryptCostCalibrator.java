@@ -0,0 +1,46 @@
+package com.dgomesdev.to_do_list_api.infra.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt cost whose hash time stays under the target on the current hardware.
+ * Each cost step doubles the work, so one measurement at the minimum cost is enough to extrapolate.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {}
+
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        var encoder = new BCryptPasswordEncoder(minCost);
+        encoder.encode("warm-up");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int cost = costFor(target.toNanos(), best, minCost, maxCost);
+        log.info("BCrypt cost {} takes ~{} ms, using cost {} for a {} ms target",
+                minCost, best / 1_000_000, cost, target.toMillis());
+        return cost;
+    }
+
+    static int costFor(long targetNanos, long minCostNanos, int minCost, int maxCost) {
+        int cost = minCost;
+        long estimate = Math.max(1, minCostNanos);
+        while (cost < maxCost && estimate * 2 <= targetNanos) {
+            estimate *= 2;
+            cost++;
+        }
+        return cost;
+    }
+}
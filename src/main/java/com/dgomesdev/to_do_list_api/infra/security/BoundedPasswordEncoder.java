@@ -0,0 +1,125 @@
+package com.dgomesdev.to_do_list_api.infra.security;
+
+import com.dgomesdev.to_do_list_api.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on its own fixed pool so a login storm cannot take every request thread.
+ * When the pool and its short queue are full the call fails fast with {@link ServiceOverloadedException},
+ * which the API answers with 503 and Retry-After instead of queueing without bound.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String RESOURCE = "Password hashing";
+
+    private final PasswordEncoder delegate;
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BoundedPasswordEncoder(int cost, int threads, int queueCapacity, Duration timeout) {
+        this(new BCryptPasswordEncoder(cost), cost, threads, queueCapacity, timeout);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int cost, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.cost = cost;
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, timeout.toSeconds());
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    @Timed(value = "api.password.hash", extraTags = {"operation", "encode"}, histogram = true)
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    @Timed(value = "api.password.hash", extraTags = {"operation", "matches"}, histogram = true)
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Asks for a rehash only when the stored cost is below the current one. Every node calibrates its own cost, so
+     * rehashing downwards too would make logins on different nodes rewrite the hash, and bump the user's version,
+     * back and forth.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        var storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reads the cost of a {@code $2a$NN$...} hash, or -1 when it is not a BCrypt hash.
+     */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') return -1;
+        int separator = encodedPassword.indexOf('$', 1);
+        if (separator < 0 || separator + 3 >= encodedPassword.length()) return -1;
+        char tens = encodedPassword.charAt(separator + 1);
+        char units = encodedPassword.charAt(separator + 2);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) return -1;
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    private <T> T run(Supplier<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(hashing::get);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new ServiceOverloadedException(RESOURCE, retryAfterSeconds);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new ServiceOverloadedException(RESOURCE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
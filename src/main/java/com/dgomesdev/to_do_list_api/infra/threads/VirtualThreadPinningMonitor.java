@@ -0,0 +1,109 @@
+package com.dgomesdev.to_do_list_api.infra.threads;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, raised when a virtual thread blocks while pinned to its
+ * carrier, typically inside a {@code synchronized} block of a JDBC or SMTP driver. A pinned carrier cannot run
+ * other virtual threads, so enough of them stall the whole request pool.
+ * <p>
+ * Events are counted per pinning site and each new site is logged once with its stack. Run with
+ * {@code -Djdk.tracePinnedThreads=full} to get the JDK's own trace of every occurrence instead.
+ */
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int MAX_SITES = 100;
+    private static final int LOGGED_FRAMES = 12;
+    private static final String UNKNOWN_SITE = "unknown";
+
+    private final Duration threshold;
+    private final LongAdder events = new LongAdder();
+    private final LongAdder totalPinnedNanos = new LongAdder();
+    private final LongAccumulator maxPinnedNanos = new LongAccumulator(Math::max, 0);
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+
+    public VirtualThreadPinningStats getStats() {
+        return new VirtualThreadPinningStats(
+                events.sum(),
+                Duration.ofNanos(totalPinnedNanos.sum()).toMillis(),
+                Duration.ofNanos(maxPinnedNanos.get()).toMillis(),
+                sites.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, site -> site.getValue().sum()))
+        );
+    }
+
+    private void record(RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        record(event.getDuration(), site(stackTrace), () -> format(stackTrace));
+    }
+
+    void record(Duration duration, String site, Supplier<String> stack) {
+        events.increment();
+        totalPinnedNanos.add(duration.toNanos());
+        maxPinnedNanos.accumulate(duration.toNanos());
+
+        // Past the cap, new sites are folded together so a misbehaving library cannot grow the map without bound
+        var key = sites.containsKey(site) || sites.size() < MAX_SITES ? site : UNKNOWN_SITE;
+        var isNew = sites.putIfAbsent(key, new LongAdder()) == null;
+        sites.get(key).increment();
+        if (isNew) log.warn("Virtual thread pinned for {} ms at {}\n{}", duration.toMillis(), key, stack.get());
+    }
+
+    /**
+     * The first frame outside the JDK: frames above it are the JDK parking or waiting on the carrier's behalf.
+     */
+    static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return UNKNOWN_SITE;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) continue;
+            var type = frame.getMethod().getType().getName();
+            if (type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.")) continue;
+            return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return UNKNOWN_SITE;
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "\t(no stack trace)";
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,13 @@
+package com.dgomesdev.to_do_list_api.infra.threads;
+
+import java.util.Map;
+
+/**
+ * @param sites pinned events per first frame outside the JDK, which is usually the driver or library holding the monitor
+ */
+public record VirtualThreadPinningStats(
+        long events,
+        long totalPinnedMillis,
+        long maxPinnedMillis,
+        Map<String, Long> sites
+) {}
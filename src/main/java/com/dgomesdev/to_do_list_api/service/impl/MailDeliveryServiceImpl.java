@@ -0,0 +1,80 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.domain.model.OutboundMail;
+import com.dgomesdev.to_do_list_api.service.interfaces.MailDeliveryService;
+import com.dgomesdev.to_do_list_api.service.mail.MailTemplate;
+import io.micrometer.core.annotation.Timed;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class MailDeliveryServiceImpl implements MailDeliveryService {
+
+    private final JavaMailSender mailSender;
+    private final MailTemplate welcomeTemplate = MailTemplate.fromClasspath("templates/mail/welcome.html");
+    private final MailTemplate resetPasswordTemplate = MailTemplate.fromClasspath("templates/mail/reset-password.html");
+
+    public MailDeliveryServiceImpl(JavaMailSender mailSender) {
+        this.mailSender = mailSender;
+    }
+
+    @Value("${spring.mail.username}")
+    private String from;
+
+    @Override
+    @Timed(value = "api.mail.delivery", histogram = true)
+    public Map<UUID, String> deliver(List<OutboundMail> mails) {
+        Map<UUID, String> failures = new HashMap<>();
+        Map<MimeMessage, UUID> mailIds = new IdentityHashMap<>();
+
+        for (OutboundMail mail : mails) {
+            try {
+                mailIds.put(createMessage(mail), mail.mailId());
+            } catch (MessagingException e) {
+                failures.put(mail.mailId(), e.getMessage());
+            }
+        }
+        if (mailIds.isEmpty()) return failures;
+
+        try {
+            // JavaMailSender opens one transport for the whole array and reuses it for every message
+            mailSender.send(mailIds.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mailIds.values().forEach(mailId -> failures.put(mailId, e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, exception) -> failures.put(mailIds.get(message), exception.getMessage()));
+            }
+        } catch (MailException e) {
+            mailIds.values().forEach(mailId -> failures.put(mailId, e.getMessage()));
+        }
+        return failures;
+    }
+
+    private MimeMessage createMessage(OutboundMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setFrom("Dgomes Dev <" + from + ">");
+        message.setRecipients(MimeMessage.RecipientType.TO, mail.to());
+        switch (mail.type()) {
+            case WELCOME -> {
+                message.setSubject("Welcome " + mail.username() + "!");
+                message.setContent(welcomeTemplate.render(Map.of()), "text/html");
+            }
+            case RESET_PASSWORD -> {
+                message.setSubject("Reset password");
+                message.setContent(
+                        resetPasswordTemplate.render(Map.of("username", mail.username(), "code", mail.code())),
+                        "text/html"
+                );
+            }
+        }
+        return message;
+    }
+}
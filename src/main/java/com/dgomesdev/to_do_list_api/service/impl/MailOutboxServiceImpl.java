@@ -0,0 +1,288 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.data.entity.MailOutboxEntity;
+import com.dgomesdev.to_do_list_api.data.repository.MailOutboxRepository;
+import com.dgomesdev.to_do_list_api.domain.model.MailOutboxStats;
+import com.dgomesdev.to_do_list_api.domain.model.MailStatus;
+import com.dgomesdev.to_do_list_api.domain.model.MailType;
+import com.dgomesdev.to_do_list_api.domain.model.OutboundMail;
+import com.dgomesdev.to_do_list_api.service.interfaces.MailDeliveryService;
+import com.dgomesdev.to_do_list_api.service.interfaces.MailOutboxService;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Durable mail pipeline. Mails are stored in tb_mail_outbox within the caller's transaction, so a mail exists if and
+ * only if the user or reset code it announces does, and their ids are queued in memory once it commits.
+ * Each worker drains up to {@code batch-size} ids at once and sends them over a single SMTP session,
+ * so bursts of signups cost one connection per batch instead of one per mail.
+ * When the queue is full, or the node restarts, the scheduled poller picks the rows up again.
+ * Failed deliveries are retried with exponential backoff and dead-lettered after the last attempt.
+ * A reset code is dropped from its row once the mail is sent or dead-lettered, and the rows themselves are purged
+ * after their retention.
+ */
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxServiceImpl.class);
+    private static final List<MailStatus> CLAIMABLE = List.of(MailStatus.PENDING, MailStatus.SENDING);
+    private static final Duration SENT_RETENTION = Duration.ofDays(7);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDeliveryService mailDeliveryService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<UUID> queue;
+    private final AsyncTaskExecutor executor;
+    private volatile boolean running = true;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration deadRetention;
+    private final int pollBatchSize;
+    private final int batchSize;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedMails = new AtomicLong();
+    private final AtomicLong totalBatchMillis = new AtomicLong();
+    private final LongAccumulator maxBatchMillis = new LongAccumulator(Math::max, 0);
+
+    public MailOutboxServiceImpl(
+            MailOutboxRepository mailOutboxRepository,
+            MailDeliveryService mailDeliveryService,
+            TransactionTemplate transactionTemplate,
+            @Value("${api.mail.outbox.workers:2}") int workers,
+            @Value("${api.mail.outbox.queue-capacity:500}") int queueCapacity,
+            @Value("${api.mail.outbox.batch-size:50}") int batchSize,
+            @Value("${api.mail.outbox.max-attempts:6}") int maxAttempts,
+            @Value("${api.mail.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+            @Value("${api.mail.outbox.max-backoff:PT1H}") Duration maxBackoff,
+            @Value("${api.mail.outbox.lease:PT5M}") Duration lease,
+            @Value("${api.mail.outbox.dead-retention:P30D}") Duration deadRetention,
+            @Value("${api.mail.outbox.poll-batch-size:100}") int pollBatchSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailDeliveryService = mailDeliveryService;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.deadRetention = deadRetention;
+        this.pollBatchSize = pollBatchSize;
+
+        this.executor = virtualThreads && Runtime.version().feature() >= 21
+                ? virtualThreadExecutor(workers)
+                : platformThreadExecutor(workers);
+        for (int i = 0; i < workers; i++) executor.execute(this::drain);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (executor instanceof ThreadPoolTaskExecutor pool) pool.shutdown();
+        else if (executor instanceof SimpleAsyncTaskExecutor simple) simple.close();
+    }
+
+    private static ThreadPoolTaskExecutor platformThreadExecutor(int workers) {
+        var pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(workers);
+        pool.setMaxPoolSize(workers);
+        pool.setQueueCapacity(0);
+        pool.setThreadNamePrefix("mail-outbox-");
+        pool.setWaitForTasksToCompleteOnShutdown(true);
+        pool.setAwaitTerminationSeconds(10);
+        pool.initialize();
+        return pool;
+    }
+
+    /**
+     * Workers spend nearly all their time waiting on SMTP and JDBC, so they release their carrier while blocked.
+     * JavaMail's Transport synchronizes around socket I/O and pins the carrier while sending on Java 21;
+     * the pinning monitor reports it.
+     */
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(int workers) {
+        var executor = new SimpleAsyncTaskExecutor("mail-outbox-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(workers);
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
+
+    /**
+     * Joins the caller's transaction. A worker only sees the id after the commit, when the row is visible to it;
+     * a rollback takes the row with it and nothing is queued.
+     */
+    @Override
+    @Transactional
+    public void enqueue(MailType type, String to, String username, String code) {
+        var mail = mailOutboxRepository.save(new MailOutboxEntity(type, to, username, code));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accept(mail.getId());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accept(mail.getId());
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${api.mail.outbox.poll-interval-ms:15000}")
+    public void dispatchDueMails() {
+        var dueIds = mailOutboxRepository.findDueIds(CLAIMABLE, new Date(), PageRequest.ofSize(pollBatchSize));
+        for (UUID id : dueIds) {
+            if (!submit(id)) break;
+        }
+    }
+
+    /**
+     * Dead letters are kept longer than sent mails so they can be looked into, but not forever.
+     */
+    @Scheduled(cron = "${api.mail.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeMails() {
+        var now = Instant.now();
+        var sentPurged = mailOutboxRepository.deleteByStatusUpdatedBefore(MailStatus.SENT, Date.from(now.minus(SENT_RETENTION)));
+        var deadPurged = mailOutboxRepository.deleteByStatusUpdatedBefore(MailStatus.DEAD, Date.from(now.minus(deadRetention)));
+        if (sentPurged > 0 || deadPurged > 0)
+            log.info("Purged {} sent and {} dead mails from the outbox", sentPurged, deadPurged);
+    }
+
+    @Override
+    public MailOutboxStats getStats() {
+        return new MailOutboxStats(
+                enqueued.get(),
+                sent.get(),
+                retried.get(),
+                deadLettered.get(),
+                rejected.get(),
+                batches.get(),
+                batchedMails.get(),
+                totalBatchMillis.get(),
+                maxBatchMillis.get()
+        );
+    }
+
+    private void accept(UUID id) {
+        enqueued.incrementAndGet();
+        submit(id);
+    }
+
+    private boolean submit(UUID id) {
+        if (queue.offer(id)) return true;
+        // The row stays PENDING in the outbox and the poller will pick it up once the queue drains
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    private void drain() {
+        List<UUID> ids = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                var first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                ids.add(first);
+                queue.drainTo(ids, batchSize - 1);
+                process(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The claimed rows keep their lease and are retried by the poller once it expires
+                log.error("Mail batch of {} failed", ids.size(), e);
+            } finally {
+                ids.clear();
+            }
+        }
+    }
+
+    void process(Collection<UUID> ids) {
+        var now = new Date();
+        var leaseUntil = Date.from(now.toInstant().plus(lease));
+        var claimToken = UUID.randomUUID();
+        if (mailOutboxRepository.claim(ids, CLAIMABLE, MailStatus.SENDING, now, leaseUntil, claimToken) == 0) return;
+
+        var mails = mailOutboxRepository.findByClaimToken(claimToken);
+        if (mails.isEmpty()) return;
+
+        var start = System.nanoTime();
+        Map<UUID, String> failures;
+        try {
+            failures = mailDeliveryService.deliver(mails.stream().map(OutboundMail::fromEntity).toList());
+        } catch (RuntimeException e) {
+            failures = new HashMap<>();
+            for (MailOutboxEntity mail : mails) failures.put(mail.getId(), e.getMessage());
+        }
+        recordBatch(mails.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failures.size());
+
+        var results = failures;
+        transactionTemplate.executeWithoutResult(status -> {
+            var claimed = mailOutboxRepository.findByClaimToken(claimToken);
+            for (MailOutboxEntity mail : claimed) {
+                if (results.containsKey(mail.getId())) markFailed(mail, results.get(mail.getId()));
+                else {
+                    mail.markSent();
+                    sent.incrementAndGet();
+                }
+            }
+            mailOutboxRepository.saveAll(claimed);
+        });
+    }
+
+    private void markFailed(MailOutboxEntity mail, String error) {
+        var deadLetter = mail.getAttempts() + 1 >= maxAttempts;
+        mail.markFailed(error, Date.from(Instant.now().plus(backoff(mail.getAttempts()))), deadLetter);
+        if (deadLetter) {
+            deadLettered.incrementAndGet();
+            log.error("Mail {} to {} dead-lettered after {} attempts: {}", mail.getId(), mail.getRecipient(), mail.getAttempts(), error);
+        } else {
+            retried.incrementAndGet();
+            log.warn("Mail {} failed on attempt {}, retrying at {}", mail.getId(), mail.getAttempts(), mail.getNextAttemptAt());
+        }
+    }
+
+    private void recordBatch(int size, long millis, int failed) {
+        batches.incrementAndGet();
+        batchedMails.addAndGet(size);
+        totalBatchMillis.addAndGet(millis);
+        maxBatchMillis.accumulate(millis);
+        log.debug("Sent batch of {} mails in {} ms, {} failed", size, millis, failed);
+    }
+
+    Duration backoff(int previousAttempts) {
+        var delay = initialBackoff.multipliedBy(1L << Math.min(previousAttempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -1,7 +1,10 @@
 package com.dgomesdev.to_do_list_api.service.impl;
 
 import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
+import com.dgomesdev.to_do_list_api.service.interfaces.EmailService;
 import com.dgomesdev.to_do_list_api.service.interfaces.RecoverPasswordService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -10,19 +13,27 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
+@Timed("api.service")
 public class RecoverPasswordServiceImpl implements RecoverPasswordService {
 
     private final StringRedisTemplate redisTemplate;
+    private final EmailService emailService;
 
-    public RecoverPasswordServiceImpl(StringRedisTemplate redisTemplate) {
+    public RecoverPasswordServiceImpl(StringRedisTemplate redisTemplate, EmailService emailService) {
         this.redisTemplate = redisTemplate;
+        this.emailService = emailService;
     }
 
+    /**
+     * The code is stored before its mail is queued, and the mail only leaves the outbox once this transaction
+     * commits. A failed commit leaves an unused code behind, which expires on its own.
+     */
     @Override
-    public String generateCode(UUID userId) {
+    @Transactional
+    public void sendCode(UUID userId, String email, String username) {
         String code = String.valueOf(UUID.randomUUID());
         storeCode(userId.toString(), code);
-        return code;
+        emailService.sendResetPasswordMail(email, username, code);
     }
 
     @Override
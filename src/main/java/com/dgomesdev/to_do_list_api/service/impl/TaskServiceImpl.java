@@ -1,94 +1,399 @@
 package com.dgomesdev.to_do_list_api.service.impl;
 
 import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.TaskTombstoneEntity;
 import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskStatsRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskTombstoneRepository;
 import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+import com.dgomesdev.to_do_list_api.domain.exception.SyncCursorExpiredException;
 import com.dgomesdev.to_do_list_api.domain.exception.TaskNotFoundException;
 import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
 import com.dgomesdev.to_do_list_api.domain.exception.UserNotFoundException;
-import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
-import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.domain.exception.VersionConflictException;
+import com.dgomesdev.to_do_list_api.domain.model.*;
+import com.dgomesdev.to_do_list_api.infra.cache.CacheNames;
 import com.dgomesdev.to_do_list_api.service.interfaces.TaskService;
+import com.dgomesdev.to_do_list_api.service.search.TaskSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Objects;
-import java.util.UUID;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("api.service")
 @Transactional
 public class TaskServiceImpl extends BaseServiceImpl implements TaskService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_QUERY_LENGTH = 200;
+    // Changes newer than this are held back so a transaction that committed late cannot land behind a cursor
+    private static final Duration SYNC_SETTLE_TIME = Duration.ofSeconds(2);
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskStatsRepository taskStatsRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final Cache taskCache;
+    private final Cache userCache;
 
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskServiceImpl(
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            TaskTombstoneRepository taskTombstoneRepository,
+            TaskStatsRepository taskStatsRepository,
+            TaskSearchIndex taskSearchIndex,
+            CacheManager cacheManager
+    ) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.taskStatsRepository = taskStatsRepository;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskCache = cacheManager.getCache(CacheNames.TASKS);
+        this.userCache = cacheManager.getCache(CacheNames.USERS);
     }
 
     @Override
     public TaskModel saveTask(TaskModel task) {
             UUID userId = UUID.fromString(getUserId());
             var user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
-            return new TaskModel.Builder()
-                    .fromEntity(taskRepository.save(new TaskEntity(task, user)))
+            var savedTask = new TaskModel.Builder()
+                    .fromEntity(taskRepository.saveAndFlush(new TaskEntity(task, user)))
                     .build();
+            taskSearchIndex.index(userId, TaskSearchDocument.fromModel(savedTask));
+            applyStats(userId, new TaskStatsDelta().add(TaskStatsKey.fromModel(savedTask)));
+            // The cached user carries its task list
+            userCache.evict(userId);
+            return savedTask;
     }
 
     @Override
     public TaskModel findTaskById(UUID taskId) {
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId));
+        var task = taskId == null ? null : taskCache.get(taskId, TaskModel.class);
+        if (task == null) {
+            task = new TaskModel.Builder()
+                    .fromEntity(taskRepository.findById(taskId).orElseThrow(() -> new TaskNotFoundException(taskId)))
+                    .build();
+            taskCache.put(taskId, task);
+        }
 
-        if (
-                !task.getUser().getId().toString().equals(this.getUserId())
-                && !this.getUserAuthorities().contains(UserAuthority.ADMIN)
-        ) throw new UnauthorizedUserException(UUID.fromString(getUserId()));
+        // Ownership is checked on every read, cached or not
+        checkOwner(task.getUserId());
+        return task;
+    }
+
+    /**
+     * The version of the task from a primary key lookup that reads three columns, so a conditional request can be
+     * answered without loading the task. It skips the task cache, whose local tier may lag a write made on
+     * another node.
+     */
+    @Override
+    public TaskVersion findTaskVersion(UUID taskId) {
+        var version = taskRepository.findVersionById(taskId).orElseThrow(() -> new TaskNotFoundException(taskId));
+        checkOwner(version.userId());
+        return version;
+    }
+
+    @Override
+    public TaskPageModel findTasks(Status status, Priority priority, String cursor, int size) {
+        UUID userId = UUID.fromString(getUserId());
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        var from = TaskCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without running a count query
+        var tasks = taskRepository.findPageByUserId(
+                userId,
+                status,
+                priority,
+                Timestamp.from(from.createdAt()),
+                from.taskId(),
+                PageRequest.ofSize(pageSize + 1)
+        );
+        var hasMore = tasks.size() > pageSize;
+        var page = tasks.stream()
+                .limit(pageSize)
+                .map(task -> new TaskModel.Builder().fromEntity(task).build())
+                .toList();
+
+        return new TaskPageModel(page, hasMore ? TaskCursor.of(page.get(pageSize - 1)).encode() : null);
+    }
+
+    /**
+     * Reads the tasks written and deleted after the cursor, both through (user, time, id) indexes, and merges them
+     * in that order. The returned cursor is always set so a client can store it and ask again later.
+     */
+    @Override
+    public TaskChangesModel findChanges(String since, int size) {
+        UUID userId = UUID.fromString(getUserId());
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        var from = TaskChangeCursor.decode(since);
+        var now = Instant.now();
+        // Past the retention the deletes a client missed may be purged already
+        if (!from.isStart() && from.changedAt().isBefore(now.minus(TOMBSTONE_RETENTION)))
+            throw new SyncCursorExpiredException();
+
+        var sinceDate = Timestamp.from(from.changedAt());
+        var until = Date.from(now.minus(SYNC_SETTLE_TIME));
+        var page = PageRequest.ofSize(pageSize + 1);
+        var changes = new ArrayList<TaskChange>();
+        taskRepository.findChangesByUserId(userId, sinceDate, from.taskId(), until, page)
+                .forEach(task -> changes.add(TaskChange.upsert(new TaskModel.Builder().fromEntity(task).build())));
+        taskTombstoneRepository.findChangesByUserId(userId, sinceDate, from.taskId(), until, page)
+                .forEach(tombstone -> changes.add(TaskChange.delete(tombstone.getTaskId(), tombstone.getDeletedAt())));
+        changes.sort(TaskChange.ORDER);
+
+        var hasMore = changes.size() > pageSize;
+        var result = changes.stream().limit(pageSize).toList();
+        // Once caught up the cursor moves to the settle bound, so an idle client's cursor never ages past retention
+        var next = hasMore ? TaskChangeCursor.of(result.get(pageSize - 1)) : TaskChangeCursor.after(until.toInstant());
+        return new TaskChangesModel(result, next.encode(), hasMore);
+    }
+
+    /**
+     * Asks the search index for the ranked ids, then loads those tasks with one primary key query.
+     */
+    @Override
+    public List<TaskModel> searchTasks(String query, int size) {
+        if (query == null || query.isBlank()) throw new InvalidRequestException("Search query must not be blank");
+        if (query.length() > MAX_QUERY_LENGTH)
+            throw new InvalidRequestException("A search query has at most " + MAX_QUERY_LENGTH + " characters");
+
+        UUID userId = UUID.fromString(getUserId());
+        var taskIds = taskSearchIndex.search(userId, query, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        if (taskIds.isEmpty()) return List.of();
+        Map<UUID, TaskEntity> tasks = taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        return taskIds.stream()
+                .map(tasks::get)
+                // A task deleted since the index was read
+                .filter(Objects::nonNull)
+                .map(task -> new TaskModel.Builder().fromEntity(task).build())
+                .toList();
+    }
+
+    @Override
+    public TaskModel updateTask(UUID taskId, TaskModel task, Long expectedVersion) {
+        patch(taskId, TaskPatch.fromModel(task), expectedVersion);
         return new TaskModel.Builder()
-                .fromEntity(task)
+                .fromEntity(taskRepository.findById(taskId).orElseThrow(() -> new TaskNotFoundException(taskId)))
                 .build();
     }
 
+    /**
+     * Writes only the supplied columns in one ownership-checked UPDATE. With an expected version the UPDATE is
+     * a compare-and-set: no lock is taken and a concurrent writer makes it match no row instead of being overwritten.
+     *
+     * @return the new version of the task, enough to build its ETag. It is only read back when no version was expected
+     * and the patch left status and priority alone
+     */
     @Override
-    public TaskModel updateTask(UUID taskId, TaskModel task) {
-        var existingTask = taskRepository.findById(taskId)
+    public Long patchTask(UUID taskId, TaskPatch patch, Long expectedVersion) {
+        var version = patch(taskId, patch, expectedVersion);
+        if (version != null) return version;
+        return taskRepository.findVersionById(taskId)
+                .map(TaskVersion::version)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
+    }
 
-        var taskUser = existingTask.getUser().getId().toString();
-        var userFromToken = this.getUserId();
-        var isUserInvalid = !Objects.equals(taskUser, userFromToken);
-        if (isUserInvalid) throw new UnauthorizedUserException(UUID.fromString(userFromToken));
+    /**
+     * @return the owner and the version the task had when it was deleted
+     */
+    @Override
+    public TaskVersion deleteTask(UUID taskId, Long expectedVersion) {
+        UUID userId = UUID.fromString(getUserId());
+        var deleted = taskRepository.deleteOwned(taskId, userId, expectedVersion)
+                .orElseThrow(() -> rejected(taskId, userId, expectedVersion));
+        taskTombstoneRepository.save(new TaskTombstoneEntity(taskId, userId, new Date()));
+        taskSearchIndex.remove(userId, taskId);
+        evict(taskId, userId);
+        return new TaskVersion(userId, deleted.version(), null);
+    }
 
-        if (!Objects.equals(existingTask.getTitle(), task.getTitle())) {
-            existingTask.setTitle(task.getTitle());
-        }
-        if (!Objects.equals(existingTask.getDescription(), task.getDescription())) {
-            existingTask.setDescription(task.getDescription());
-        }
-        if (!Objects.equals(existingTask.getPriority(), task.getPriority())) {
-            existingTask.setPriority(task.getPriority());
+    /**
+     * Applies a sync batch in the caller's transaction. Every referenced task is loaded and ownership-checked
+     * with one query; an operation that fails validation is reported and skipped, the others are flushed together
+     * so Hibernate can send them as JDBC batches.
+     */
+    @Override
+    public List<TaskOperationResult> applyBatch(List<TaskOperation> operations) {
+        if (operations == null || operations.isEmpty()) throw new InvalidRequestException("No operations to apply");
+        if (operations.size() > MAX_BATCH_SIZE)
+            throw new InvalidRequestException("A batch accepts at most " + MAX_BATCH_SIZE + " operations");
+
+        UUID userId = UUID.fromString(getUserId());
+        var referencedIds = operations.stream()
+                .map(TaskOperation::taskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, TaskEntity> tasks = referencedIds.isEmpty()
+                ? new HashMap<>()
+                : taskRepository.findAllById(referencedIds).stream()
+                        .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        var user = operations.stream().anyMatch(operation -> operation.type() == TaskOperationType.CREATE)
+                ? userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId))
+                : null;
+
+        var results = new TaskOperationResult[operations.size()];
+        Map<Integer, TaskEntity> written = new LinkedHashMap<>();
+        var newTasks = new ArrayList<TaskEntity>();
+        var tombstones = new ArrayList<TaskTombstoneEntity>();
+        // Loaded tasks are version-checked when flushed, so the counters they are moved out of are still theirs
+        var stats = new TaskStatsDelta();
+        var now = new Date();
+
+        for (int i = 0; i < operations.size(); i++) {
+            var operation = operations.get(i);
+            var changes = operation.task();
+            if (operation.type() == TaskOperationType.CREATE) {
+                if (changes.getTitle() == null || changes.getTitle().isBlank()) {
+                    results[i] = TaskOperationResult.failed(i, operation, TaskOperationOutcome.INVALID, "Title must not be blank");
+                    continue;
+                }
+                var task = new TaskEntity(changes, user);
+                if (changes.getPriority() == null) task.setPriority(Priority.MEDIUM);
+                if (changes.getStatus() == null) task.setStatus(Status.TO_BE_DONE);
+                stats.add(TaskStatsKey.fromEntity(task));
+                newTasks.add(task);
+                written.put(i, task);
+                continue;
+            }
+
+            var task = operation.taskId() == null ? null : tasks.get(operation.taskId());
+            if (task == null) {
+                results[i] = TaskOperationResult.failed(i, operation, TaskOperationOutcome.NOT_FOUND, "Task not found");
+                continue;
+            }
+            if (!task.getUser().getId().equals(userId)) {
+                results[i] = TaskOperationResult.failed(i, operation, TaskOperationOutcome.UNAUTHORIZED, "Unauthorized access");
+                continue;
+            }
+
+            switch (operation.type()) {
+                case UPDATE -> {
+                    if (changes.getTitle() != null && changes.getTitle().isBlank()) {
+                        results[i] = TaskOperationResult.failed(i, operation, TaskOperationOutcome.INVALID, "Title must not be blank");
+                        continue;
+                    }
+                    var counted = TaskStatsKey.fromEntity(task);
+                    if (changes.getTitle() != null) task.setTitle(changes.getTitle());
+                    if (changes.getDescription() != null) task.setDescription(changes.getDescription());
+                    if (changes.getPriority() != null) task.setPriority(changes.getPriority());
+                    if (changes.getStatus() != null) task.setStatus(changes.getStatus());
+                    stats.move(counted, TaskStatsKey.fromEntity(task));
+                    written.put(i, task);
+                }
+                case STATUS -> {
+                    if (changes.getStatus() == null) {
+                        results[i] = TaskOperationResult.failed(i, operation, TaskOperationOutcome.INVALID, "Status is required");
+                        continue;
+                    }
+                    var counted = TaskStatsKey.fromEntity(task);
+                    task.setStatus(changes.getStatus());
+                    stats.move(counted, TaskStatsKey.fromEntity(task));
+                    written.put(i, task);
+                }
+                case DELETE -> {
+                    taskRepository.delete(task);
+                    stats.remove(TaskStatsKey.fromEntity(task));
+                    tombstones.add(new TaskTombstoneEntity(task.getId(), userId, now));
+                    // Later operations on the same task see it as gone
+                    tasks.remove(task.getId());
+                    taskCache.evict(task.getId());
+                    taskSearchIndex.remove(userId, task.getId());
+                    results[i] = new TaskOperationResult(i, operation.type(), task.getId(), TaskOperationOutcome.DELETED, null, null);
+                }
+            }
         }
-        if (!Objects.equals(existingTask.getStatus(), task.getStatus())) {
-            existingTask.setStatus(task.getStatus());
+
+        taskRepository.saveAll(newTasks);
+        taskTombstoneRepository.saveAll(tombstones);
+        taskRepository.flush();
+        applyStats(userId, stats);
+
+        written.forEach((index, task) -> {
+            var operation = operations.get(index);
+            var outcome = operation.type() == TaskOperationType.CREATE ? TaskOperationOutcome.CREATED : TaskOperationOutcome.UPDATED;
+            var model = new TaskModel.Builder().fromEntity(task).build();
+            results[index] = new TaskOperationResult(index, operation.type(), task.getId(), outcome, model, null);
+            taskCache.evict(task.getId());
+            if (operation.type() != TaskOperationType.STATUS)
+                taskSearchIndex.index(userId, TaskSearchDocument.fromModel(model));
+        });
+        userCache.evict(userId);
+
+        return Arrays.asList(results);
+    }
+
+    @Scheduled(cron = "${api.sync.tombstone-purge-cron:0 30 4 * * *}")
+    public void purgeTombstones() {
+        taskTombstoneRepository.deleteByDeletedAtBefore(Date.from(Instant.now().minus(TOMBSTONE_RETENTION)));
+    }
+
+    /**
+     * @return the new version when the write tells it, null otherwise
+     */
+    private Long patch(UUID taskId, TaskPatch patch, Long expectedVersion) {
+        if (patch.isEmpty()) throw new InvalidRequestException("Nothing to update");
+        if (patch.title() != null && patch.title().isBlank()) throw new InvalidRequestException("Title must not be blank");
+
+        UUID userId = UUID.fromString(getUserId());
+        Long version;
+        // Only a patch that can move the task to another counter needs the write to report the one it was in
+        if (patch.status() != null || patch.priority() != null) {
+            version = taskRepository.patchOwnedCounted(taskId, userId, patch, new Date(), expectedVersion)
+                    .orElseThrow(() -> rejected(taskId, userId, expectedVersion))
+                    .version();
+        } else {
+            if (taskRepository.patchOwned(taskId, userId, patch, new Date(), expectedVersion) == 0)
+                throw rejected(taskId, userId, expectedVersion);
+            version = expectedVersion == null ? null : expectedVersion + 1;
         }
-        var updatedTask = taskRepository.save(existingTask);
+        taskSearchIndex.patch(userId, taskId, patch);
+        evict(taskId, userId);
+        return version;
+    }
 
-        return new TaskModel.Builder()
-                .fromEntity(updatedTask)
-                .build();
+    /**
+     * Moves the user's counters in the caller's transaction, so they commit or roll back with the write.
+     */
+    private void applyStats(UUID userId, TaskStatsDelta delta) {
+        delta.forEach(change -> taskStatsRepository.adjust(userId, change.status(), change.priority(), change.count()));
     }
 
-    @Override
-    public UUID deleteTask(UUID taskId) {
-        var task = taskRepository.findById(taskId).orElseThrow(() -> new TaskNotFoundException(taskId));
+    private void checkOwner(UUID ownerId) {
+        if (
+                !ownerId.toString().equals(this.getUserId())
+                && !this.getUserAuthorities().contains(UserAuthority.ADMIN)
+        ) throw new UnauthorizedUserException(UUID.fromString(getUserId()));
+    }
 
-        var taskUser = task.getUser().getId().toString();
-        var userFromToken = this.getUserId();
-        var isUserInvalid = !Objects.equals(taskUser, userFromToken);
+    private RuntimeException rejected(UUID taskId, UUID userId, Long expectedVersion) {
+        // Only a write that matched no row pays for this lookup
+        if (expectedVersion == null)
+            return taskRepository.existsById(taskId) ? new UnauthorizedUserException(userId) : new TaskNotFoundException(taskId);
+        var task = taskRepository.findById(taskId).orElse(null);
+        if (task == null) return new TaskNotFoundException(taskId);
+        if (!task.getUser().getId().equals(userId)) return new UnauthorizedUserException(userId);
+        return new VersionConflictException(new TaskModel.Builder().fromEntity(task).build());
+    }
 
-        if (isUserInvalid) throw new UnauthorizedUserException(UUID.fromString(userFromToken));
-        taskRepository.delete(task);
-        return UUID.fromString(userFromToken);
+    private void evict(UUID taskId, UUID userId) {
+        taskCache.evict(taskId);
+        userCache.evict(userId);
     }
 }
@@ -0,0 +1,110 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskStatsEntity;
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskStatsRepository;
+import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsKey;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsModel;
+import com.dgomesdev.to_do_list_api.service.interfaces.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves task counts from tb_task_stats, which TaskServiceImpl keeps up to date in the transaction of every write,
+ * so a dashboard reads nine rows whatever the number of tasks. The reconciliation recounts tb_tasks user by user
+ * and repairs counters that drifted, such as after a write made outside the service.
+ */
+@Service
+@Timed("api.service")
+public class TaskStatsServiceImpl extends BaseServiceImpl implements TaskStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsServiceImpl.class);
+
+    private final TaskStatsRepository taskStatsRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskStatsServiceImpl(
+            TaskStatsRepository taskStatsRepository,
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${api.stats.reconcile-batch-size:500}") int batchSize
+    ) {
+        this.taskStatsRepository = taskStatsRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public TaskStatsModel findStats() {
+        return TaskStatsModel.fromCounts(taskStatsRepository.findCountsByUserId(UUID.fromString(getUserId())));
+    }
+
+    /**
+     * Each user is repaired in a transaction of their own, so no lock is held longer than one user's recount.
+     *
+     * @return the number of counters that were wrong or missing
+     */
+    @Override
+    @Scheduled(cron = "${api.stats.reconcile-cron:0 0 5 * * *}")
+    public int reconcile() {
+        int repaired = 0;
+        var after = new UUID(0, 0);
+        while (true) {
+            var userIds = userRepository.findIdsAfter(after, PageRequest.ofSize(batchSize));
+            for (var userId : userIds) repaired += transactionTemplate.execute(status -> reconcile(userId));
+            if (userIds.size() < batchSize) break;
+            after = userIds.get(userIds.size() - 1);
+        }
+        if (repaired > 0) log.warn("Repaired {} drifted task counters", repaired);
+        return repaired;
+    }
+
+    /**
+     * The counters are locked before the tasks are counted. A write that already moved them has committed by
+     * then and is counted; one still to move them waits for the lock and applies its change on top of the recount.
+     */
+    private int reconcile(UUID userId) {
+        var counters = taskStatsRepository.lockAllByUserId(userId).stream()
+                .collect(Collectors.toMap(counter -> new TaskStatsKey(counter.getStatus(), counter.getPriority()), Function.identity()));
+        var counts = new HashMap<TaskStatsKey, Long>();
+        taskRepository.countByUserId(userId)
+                .forEach(count -> counts.put(new TaskStatsKey(count.status(), count.priority()), count.count()));
+
+        int repaired = 0;
+        for (var status : Status.values()) {
+            for (var priority : Priority.values()) {
+                var key = new TaskStatsKey(status, priority);
+                long count = counts.getOrDefault(key, 0L);
+                var counter = counters.get(key);
+                if (counter == null) {
+                    taskStatsRepository.save(new TaskStatsEntity(userId, status, priority, count));
+                    repaired++;
+                } else if (counter.getTaskCount() != count) {
+                    counter.setTaskCount(count);
+                    repaired++;
+                }
+            }
+        }
+        return repaired;
+    }
+}
@@ -1,29 +1,46 @@
 package com.dgomesdev.to_do_list_api.service.impl;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.dgomesdev.to_do_list_api.domain.model.AuthenticatedUser;
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
 import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Set;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("api.service")
 public class TokenServiceImpl implements TokenService {
 
+    private static final String ISSUER = "to_do_list_api";
+
     @Value("${api.security.token.secret}")
     protected String secret;
 
-    private Algorithm buildAlgorithm(String secret) {
-        return Algorithm.HMAC256(secret);
+    private volatile Signer signer;
+
+    /**
+     * The HMAC algorithm and its verifier are immutable and thread-safe, so they are built once and
+     * reused until the configured secret changes.
+     */
+    private Signer getSigner() {
+        var current = signer;
+        if (current == null || !Objects.equals(current.secret(), secret)) {
+            var algorithm = Algorithm.HMAC256(secret);
+            current = new Signer(secret, algorithm, JWT.require(algorithm).withIssuer(ISSUER).build());
+            signer = current;
+        }
+        return current;
     }
 
     @Override
@@ -31,39 +48,34 @@ public class TokenServiceImpl implements TokenService {
         Instant expirationHour = setExpirationHour();
         return JWT
                 .create()
-                .withIssuer("to_do_list_api")
+                .withIssuer(ISSUER)
                 .withClaim("userId", user.getUserId().toString())
                 .withClaim("userAuthorities", user.getAuthorities().stream().map(GrantedAuthority::toString).toList())
                 .withExpiresAt(expirationHour)
-                .sign(buildAlgorithm(secret));
+                .sign(getSigner().algorithm());
     }
 
     @Override
-    public UserModel getUserFromToken(String token) {
+    public AuthenticatedUser getUserFromToken(String token) {
         var decodedToken = validateToken(token);
 
         UUID userId = UUID.fromString(decodedToken.getClaim("userId").asString());
-        var authoritiesList = decodedToken.getClaim("userAuthorities").asList(String.class);
-        Set<UserAuthority> userAuthorities = authoritiesList.stream()
+        var userAuthorities = decodedToken.getClaim("userAuthorities").asList(String.class)
+                .stream()
                 .map(UserAuthority::valueOf)
-                .collect(Collectors.toSet());
+                .map(UserAuthority::toGrantedAuthority)
+                .toList();
 
-        return new UserModel.Builder()
-                .withUserId(userId)
-                .withUserAuthorities(userAuthorities)
-                .withUsername("user")
-                .build();
+        return new AuthenticatedUser(userId, userAuthorities, decodedToken.getExpiresAtAsInstant());
     }
 
     private DecodedJWT validateToken(String token) {
-        return JWT
-                .require(buildAlgorithm(secret))
-                .withIssuer("to_do_list_api")
-                .build()
-                .verify(token);
+        return getSigner().verifier().verify(token);
     }
 
     private Instant setExpirationHour() {
         return Instant.now().plus(2, ChronoUnit.HOURS);
     }
-}
\ No newline at end of file
+
+    private record Signer(String secret, Algorithm algorithm, JWTVerifier verifier) {}
+}
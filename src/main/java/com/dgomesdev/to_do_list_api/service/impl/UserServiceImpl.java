@@ -1,52 +1,86 @@
 package com.dgomesdev.to_do_list_api.service.impl;
 
+import com.dgomesdev.to_do_list_api.data.entity.TaskStatsEntity;
 import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskStatsRepository;
+import com.dgomesdev.to_do_list_api.data.repository.UserCredentials;
 import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
 import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
 import com.dgomesdev.to_do_list_api.domain.exception.UserNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.exception.UserVersionConflictException;
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import com.dgomesdev.to_do_list_api.infra.cache.CacheNames;
+import com.dgomesdev.to_do_list_api.service.interfaces.EmailService;
 import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
 import com.dgomesdev.to_do_list_api.service.interfaces.UserService;
+import com.dgomesdev.to_do_list_api.service.search.TaskSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("api.service")
 @Transactional
-public class UserServiceImpl extends BaseServiceImpl implements UserService, UserDetailsService {
+public class UserServiceImpl extends BaseServiceImpl implements UserService, UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskStatsRepository taskStatsRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final EmailService emailService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final Cache userCache;
+    private final Cache taskCache;
 
     public UserServiceImpl(
             UserRepository userRepository,
+            TaskRepository taskRepository,
+            TaskStatsRepository taskStatsRepository,
             PasswordEncoder passwordEncoder,
-            TokenService tokenService
+            TokenService tokenService,
+            EmailService emailService,
+            TaskSearchIndex taskSearchIndex,
+            CacheManager cacheManager
     ) {
         this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.taskStatsRepository = taskStatsRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenService = tokenService;
+        this.emailService = emailService;
+        this.taskSearchIndex = taskSearchIndex;
+        this.userCache = cacheManager.getCache(CacheNames.USERS);
+        this.taskCache = cacheManager.getCache(CacheNames.TASKS);
     }
 
     @Override
     public UserModel saveUser(UserModel newUser) {
         if (newUser.getEmail().isBlank() || this.isEmailInvalid(newUser.getEmail()))
-            throw new IllegalArgumentException("Invalid e-mail");
+            throw new InvalidRequestException("Invalid e-mail");
 
         if (userRepository.findUserByEmail(newUser.getEmail()).isPresent())
             throw new DataIntegrityViolationException("User " + newUser.getEmail() + " already exists");
 
         if (newUser.getPassword().isBlank())
-            throw new IllegalArgumentException("Invalid password");
+            throw new InvalidRequestException("Invalid password");
 
         var savedUser = userRepository.save(
                 new UserEntity(
@@ -56,6 +90,9 @@ public class UserServiceImpl extends BaseServiceImpl implements UserService, Use
                         newUser.getAuthorities()
                 )
         );
+        taskStatsRepository.saveAll(TaskStatsEntity.emptyFor(savedUser.getId()));
+        // Queued in this transaction, so the welcome mail is only sent if the user is created
+        emailService.sendWelcomeMail(savedUser.getEmail(), savedUser.getUsername());
 
         var response = new UserModel.Builder()
                 .fromEntity(savedUser)
@@ -70,9 +107,30 @@ public class UserServiceImpl extends BaseServiceImpl implements UserService, Use
     public UserModel findUserById(UUID userId) {
         if (!userId.toString().equals(this.getUserId())) throw new UnauthorizedUserException(userId);
 
-        return new UserModel.Builder()
-                .fromEntity(userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId)))
-                .build();
+        var user = userCache.get(userId, UserModel.class);
+        if (user == null) {
+            // The password hash is not needed to render a user, so it never leaves the database
+            // Two statements whatever the number of tasks: user joined with authorities, then its tasks
+            var userEntity = userRepository.findWithAuthoritiesById(userId)
+                    .orElseThrow(() -> new UserNotFoundException(userId));
+            user = new UserModel.Builder()
+                    .fromEntity(userEntity, taskRepository.findAllByUserId(userId))
+                    .withPassword("")
+                    .build();
+            userCache.put(userId, user);
+        }
+        return user;
+    }
+
+    /**
+     * Aggregated by the database in one indexed query rather than derived from the cached user, whose local tier
+     * may lag a write made on another node.
+     */
+    @Override
+    public UserVersion findUserVersion(UUID userId) {
+        if (!userId.toString().equals(this.getUserId())) throw new UnauthorizedUserException(userId);
+
+        return userRepository.findVersionById(userId).orElseThrow(() -> new UserNotFoundException(userId));
     }
 
     @Override
@@ -85,21 +143,20 @@ public class UserServiceImpl extends BaseServiceImpl implements UserService, Use
     }
 
     @Override
-    public UserModel updateUser(UserModel user) {
+    public UserModel updateUser(UserModel user, Long expectedVersion) {
         if (!user.getUserId().toString().equals(this.getUserId()))
             throw new UnauthorizedUserException(user.getUserId());
 
         boolean haveAuthoritiesBeenModified = false;
 
-        var existingUser = userRepository.findById(user.getUserId())
-                .orElseThrow(() -> new UserNotFoundException(user.getUserId()));
+        var existingUser = findForWrite(user.getUserId(), expectedVersion);
 
         if (!existingUser.getUsername().equals(user.getUsername())) {
             existingUser.setUsername(user.getUsername());
         }
 
         if (!user.getEmail().isBlank() && !existingUser.getEmail().equals(user.getEmail())) {
-            if (this.isEmailInvalid(user.getEmail())) throw new IllegalArgumentException("Invalid e-mail");
+            if (this.isEmailInvalid(user.getEmail())) throw new InvalidRequestException("Invalid e-mail");
             existingUser.setEmail(user.getEmail());
         }
 
@@ -118,6 +175,7 @@ public class UserServiceImpl extends BaseServiceImpl implements UserService, Use
         }
 
         var updatedUser = userRepository.save(existingUser);
+        userCache.evict(user.getUserId());
         var response = new UserModel.Builder()
                 .fromEntity(updatedUser)
                 .build();
@@ -130,30 +188,76 @@ public class UserServiceImpl extends BaseServiceImpl implements UserService, Use
     @Override
     public void resetPassword(UUID userId, String password) {
         var existingUser = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
-        if (password.isBlank()) throw new IllegalArgumentException("Invalid password");
+        if (password.isBlank()) throw new InvalidRequestException("Invalid password");
         existingUser.setPassword(passwordEncoder.encode(password));
         userRepository.save(existingUser);
+        userCache.evict(userId);
     }
 
     @Override
-    public void deleteUser(UUID userId) {
+    public void deleteUser(UUID userId, Long expectedVersion) {
         if (!userId.toString().equals(this.getUserId())  && !this.getUserAuthorities().contains(UserAuthority.ADMIN))
             throw new UnauthorizedUserException(userId);
-        userRepository.delete(
-                userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId))
-        );
+        var existingUser = findForWrite(userId, expectedVersion);
+        userRepository.delete(existingUser);
+        taskStatsRepository.deleteAllByUserId(userId);
+        taskSearchIndex.removeUser(userId);
+        userCache.evict(userId);
+        existingUser.getTasks().forEach(task -> taskCache.evict(task.getId()));
     }
 
+    /**
+     * Called by the authentication provider before the password is checked, so it only reads the credentials.
+     * Tasks are served by GET /tasks and the token is signed by the login endpoint once authentication succeeded.
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        var user = userRepository.findUserByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        var credentials = userRepository.findCredentialsByEmail(email);
+        if (credentials.isEmpty()) throw new UsernameNotFoundException("User not found with email: " + email);
 
-        var response = new UserModel.Builder()
-                .fromEntity(user)
+        var user = credentials.get(0);
+        return new UserModel.Builder()
+                .withUserId(user.userId())
+                .withUsername(user.username())
+                .withEmail(user.email())
+                .withPassword(user.password())
+                .withUserAuthorities(credentials.stream()
+                        .map(UserCredentials::authority)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
                 .build();
-        response.setToken(tokenService.generateToken(response));
+    }
 
-        return response;
+    /**
+     * Called by the authentication provider after a successful login when the stored hash was made
+     * with a different BCrypt cost, so hashes follow the calibrated cost without a reset.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        var userModel = (UserModel) user;
+        userRepository.updatePassword(userModel.getUserId(), newPassword, new Date());
+        // The rehash bumps the version, which a cached user would keep serving in its ETag
+        userCache.evict(userModel.getUserId());
+        return new UserModel.Builder()
+                .withUserId(userModel.getUserId())
+                .withUsername(userModel.getUsername())
+                .withEmail(userModel.getEmail())
+                .withPassword(newPassword)
+                .withUserAuthorities(userModel.getAuthorities()
+                        .stream()
+                        .map(UserAuthority::fromGrantedAuthority)
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    /**
+     * No lock is taken: a stale expected version is rejected here, and a writer that got past this check with the
+     * same version loses in the UPDATE or DELETE Hibernate flushes, which compares {@code @Version} again.
+     */
+    private UserEntity findForWrite(UUID userId, Long expectedVersion) {
+        var user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion()))
+            throw new UserVersionConflictException(new UserModel.Builder().fromEntity(user).withPassword("").build());
+        return user;
     }
 }
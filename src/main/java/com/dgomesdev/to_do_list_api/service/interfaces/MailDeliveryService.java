@@ -0,0 +1,17 @@
+package com.dgomesdev.to_do_list_api.service.interfaces;
+
+import com.dgomesdev.to_do_list_api.domain.model.OutboundMail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface MailDeliveryService {
+
+    /**
+     * Sends the mails over a single SMTP session.
+     *
+     * @return the error message of every mail that could not be sent, keyed by mail id
+     */
+    Map<UUID, String> deliver(List<OutboundMail> mails);
+}
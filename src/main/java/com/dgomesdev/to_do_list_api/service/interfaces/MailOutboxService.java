@@ -0,0 +1,10 @@
+package com.dgomesdev.to_do_list_api.service.interfaces;
+
+import com.dgomesdev.to_do_list_api.domain.model.MailOutboxStats;
+import com.dgomesdev.to_do_list_api.domain.model.MailType;
+
+public interface MailOutboxService {
+    void enqueue(MailType type, String to, String username, String code);
+    void dispatchDueMails();
+    MailOutboxStats getStats();
+}
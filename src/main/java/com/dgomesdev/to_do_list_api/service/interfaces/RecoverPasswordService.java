@@ -4,6 +4,6 @@ import java.util.UUID;
 
 public interface RecoverPasswordService {
 
-    String generateCode(UUID userId);
+    void sendCode(UUID userId, String email, String username);
     void validateCode(UUID key, String code);
 }
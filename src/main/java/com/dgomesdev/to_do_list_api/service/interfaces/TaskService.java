@@ -1,13 +1,28 @@
 package com.dgomesdev.to_do_list_api.service.interfaces;
 
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskChangesModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperation;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationResult;
 import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPageModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskVersion;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface TaskService {
 
     TaskModel saveTask(TaskModel newTask);
     TaskModel findTaskById(UUID taskId);
-    TaskModel updateTask(UUID taskId, TaskModel updatedTask);
-    UUID deleteTask(UUID taskId);
+    TaskVersion findTaskVersion(UUID taskId);
+    TaskPageModel findTasks(Status status, Priority priority, String cursor, int size);
+    TaskChangesModel findChanges(String since, int size);
+    List<TaskModel> searchTasks(String query, int size);
+    TaskModel updateTask(UUID taskId, TaskModel updatedTask, Long expectedVersion);
+    Long patchTask(UUID taskId, TaskPatch patch, Long expectedVersion);
+    TaskVersion deleteTask(UUID taskId, Long expectedVersion);
+    List<TaskOperationResult> applyBatch(List<TaskOperation> operations);
 }
\ No newline at end of file
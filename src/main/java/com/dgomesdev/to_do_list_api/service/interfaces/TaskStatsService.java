@@ -0,0 +1,8 @@
+package com.dgomesdev.to_do_list_api.service.interfaces;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsModel;
+
+public interface TaskStatsService {
+    TaskStatsModel findStats();
+    int reconcile();
+}
@@ -1,9 +1,10 @@
 package com.dgomesdev.to_do_list_api.service.interfaces;
 
+import com.dgomesdev.to_do_list_api.domain.model.AuthenticatedUser;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
 
 public interface TokenService {
 
     String generateToken(UserModel user);
-    UserModel getUserFromToken(String token);
+    AuthenticatedUser getUserFromToken(String token);
 }
@@ -1,6 +1,7 @@
 package com.dgomesdev.to_do_list_api.service.interfaces;
 
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
 
 import java.util.UUID;
 
@@ -8,8 +9,9 @@ public interface UserService {
 
     UserModel saveUser(UserModel newUser);
     UserModel findUserById(UUID userId);
+    UserVersion findUserVersion(UUID userId);
     UserModel findUserByEmail(String email);
-    UserModel updateUser(UserModel updatedUser);
+    UserModel updateUser(UserModel updatedUser, Long expectedVersion);
     void resetPassword(UUID userId, String password);
-    void deleteUser(UUID userId);
+    void deleteUser(UUID userId, Long expectedVersion);
 }
@@ -0,0 +1,65 @@
+package com.dgomesdev.to_do_list_api.service.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTML template parsed once into literal segments and {@code {{placeholder}}} slots.
+ * Rendering only appends the segments and the HTML-escaped values, the markup itself is never scanned again.
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+
+    private MailTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static MailTemplate parse(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = template.indexOf(OPEN, position)) >= 0) {
+            int close = template.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) throw new IllegalArgumentException("Unclosed placeholder at index " + open);
+            literals.add(template.substring(position, open));
+            placeholders.add(template.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(template.substring(position));
+        return new MailTemplate(literals, placeholders);
+    }
+
+    public static MailTemplate fromClasspath(String path) {
+        try (var input = new ClassPathResource(path).getInputStream()) {
+            return parse(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load mail template " + path, e);
+        }
+    }
+
+    public String render(Map<String, String> values) {
+        var html = new StringBuilder(literalsLength + 64 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            html.append(literals[i]);
+            var value = values.get(placeholders[i]);
+            if (value != null) html.append(HtmlUtils.htmlEscape(value));
+        }
+        return html.append(literals[placeholders.length]).toString();
+    }
+}
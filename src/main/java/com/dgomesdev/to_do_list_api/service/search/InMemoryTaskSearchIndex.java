@@ -0,0 +1,188 @@
+package com.dgomesdev.to_do_list_api.service.search;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index per user, for databases without full-text search such as H2. A user's index is loaded from
+ * the database on their first search and from then on follows the writes of this node, applied after they commit.
+ * Every query term must match; a term weighs more in the title than in the description, like Postgres' A and B
+ * weights.
+ */
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+    // Same split as Postgres' 'simple' configuration: runs of letters and digits, lowercased
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Function<UUID, List<TaskSearchDocument>> loader;
+    private final Cache<UUID, UserIndex> users;
+
+    /**
+     * @param loader reads every task of a user, to build their index
+     */
+    public InMemoryTaskSearchIndex(Function<UUID, List<TaskSearchDocument>> loader, long maxUsers, Duration idleTimeout) {
+        this.loader = loader;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public List<UUID> search(UUID userId, String query, int limit) {
+        var terms = weigh(query, null).keySet();
+        if (terms.isEmpty()) return List.of();
+        return users.get(userId, this::load).search(terms, limit);
+    }
+
+    @Override
+    public void index(UUID userId, TaskSearchDocument task) {
+        update(userId, index -> index.put(task));
+    }
+
+    @Override
+    public void patch(UUID userId, UUID taskId, TaskPatch patch) {
+        if (patch.title() == null && patch.description() == null) return;
+        update(userId, index -> index.patch(taskId, patch.title(), patch.description()));
+    }
+
+    @Override
+    public void remove(UUID userId, UUID taskId) {
+        update(userId, index -> index.remove(taskId));
+    }
+
+    @Override
+    public void removeUser(UUID userId) {
+        afterCommit(() -> users.invalidate(userId));
+    }
+
+    private UserIndex load(UUID userId) {
+        var index = new UserIndex();
+        loader.apply(userId).forEach(index::put);
+        return index;
+    }
+
+    /**
+     * A user without a loaded index is skipped: their first search reads the committed tasks anyway. One whose
+     * index is loading waits for it, so a write that committed after the load read the tasks is not lost.
+     */
+    private void update(UUID userId, Consumer<UserIndex> change) {
+        afterCommit(() -> users.asMap().computeIfPresent(userId, (id, index) -> {
+            change.accept(index);
+            return index;
+        }));
+    }
+
+    private static void afterCommit(Runnable apply) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private static Map<String, Float> weigh(String title, String description) {
+        var weights = new HashMap<String, Float>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, description, DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        if (text == null) return;
+        for (var term : SEPARATORS.split(text.toLowerCase(Locale.ROOT)))
+            if (!term.isEmpty()) weights.merge(term, weight, Float::sum);
+    }
+
+    private record Hit(UUID taskId, float score) {
+
+        static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+                .thenComparing(Hit::taskId, Comparator.reverseOrder());
+    }
+
+    private static final class UserIndex {
+
+        private final Map<UUID, TaskSearchDocument> documents = new HashMap<>();
+        // Term to the weight it has in each task that contains it
+        private final Map<String, Map<UUID, Float>> postings = new HashMap<>();
+
+        synchronized void put(TaskSearchDocument task) {
+            remove(task.taskId());
+            documents.put(task.taskId(), task);
+            weigh(task.title(), task.description())
+                    .forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(task.taskId(), weight));
+        }
+
+        synchronized void patch(UUID taskId, String title, String description) {
+            var current = documents.get(taskId);
+            if (current == null) return;
+            put(new TaskSearchDocument(
+                    taskId,
+                    title == null ? current.title() : title,
+                    description == null ? current.description() : description
+            ));
+        }
+
+        synchronized void remove(UUID taskId) {
+            var current = documents.remove(taskId);
+            if (current == null) return;
+            for (var term : weigh(current.title(), current.description()).keySet()) {
+                var posting = postings.get(term);
+                posting.remove(taskId);
+                if (posting.isEmpty()) postings.remove(term);
+            }
+        }
+
+        /**
+         * Walks the tasks of the rarest term, probes the other terms' postings and keeps the best hits in a heap,
+         * so the cost follows the rarest term rather than the number of tasks.
+         */
+        synchronized List<UUID> search(Set<String> terms, int limit) {
+            var lists = new ArrayList<Map<UUID, Float>>(terms.size());
+            for (var term : terms) {
+                var posting = postings.get(term);
+                if (posting == null) return List.of();
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            var best = new PriorityQueue<>(limit + 1, Hit.WORST_FIRST);
+            candidates:
+            for (var candidate : lists.get(0).entrySet()) {
+                float score = candidate.getValue();
+                for (int i = 1; i < lists.size(); i++) {
+                    var weight = lists.get(i).get(candidate.getKey());
+                    if (weight == null) continue candidates;
+                    score += weight;
+                }
+                var hit = new Hit(candidate.getKey(), score);
+                if (best.size() < limit) best.add(hit);
+                else if (Hit.WORST_FIRST.compare(hit, best.peek()) > 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+
+            var ids = new UUID[best.size()];
+            for (int i = ids.length - 1; i >= 0; i--) ids[i] = best.poll().taskId();
+            return Arrays.asList(ids);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.dgomesdev.to_do_list_api.service.search;
+
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Searches the generated tsvector column. Postgres rewrites the vector and its GIN index entries in the statement
+ * that writes the task, so there is nothing to maintain here.
+ */
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    private final TaskRepository taskRepository;
+
+    public PostgresTaskSearchIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public List<UUID> search(UUID userId, String query, int limit) {
+        return taskRepository.searchIdsByUserId(userId, query, limit);
+    }
+
+    @Override
+    public void index(UUID userId, TaskSearchDocument task) {
+    }
+
+    @Override
+    public void patch(UUID userId, UUID taskId, TaskPatch patch) {
+    }
+
+    @Override
+    public void remove(UUID userId, UUID taskId) {
+    }
+
+    @Override
+    public void removeUser(UUID userId) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.dgomesdev.to_do_list_api.service.search;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over the title and description of a user's tasks. The service reports every write inside its
+ * transaction; an index kept outside the database applies it once the transaction commits.
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * @return the ids of the matching tasks, best ranked first
+     */
+    List<UUID> search(UUID userId, String query, int limit);
+
+    void index(UUID userId, TaskSearchDocument task);
+
+    /**
+     * @param patch the written columns; a null title or description is left as indexed
+     */
+    void patch(UUID userId, UUID taskId, TaskPatch patch);
+
+    void remove(UUID userId, UUID taskId);
+
+    /**
+     * Forgets every task of a deleted user.
+     */
+    void removeUser(UUID userId);
+}
@@ -0,0 +1,27 @@
+package com.dgomesdev.to_do_list_api.service.validation;
+
+import java.util.Collection;
+
+/**
+ * Rejects addresses whose domain, or any parent domain, is on the blocklist.
+ * Blocking {@code mailinator.com} also blocks {@code eu.mailinator.com}.
+ */
+public class DisposableDomainRule implements EmailRule {
+
+    private final DomainSet blockedDomains;
+
+    public DisposableDomainRule(Collection<String> blockedDomains) {
+        this.blockedDomains = new DomainSet(blockedDomains);
+    }
+
+    @Override
+    public boolean rejects(String email, int atIndex) {
+        int length = email.length();
+        for (int start = atIndex + 1; start < length; start++) {
+            if (blockedDomains.contains(email, start, length)) return true;
+            start = email.indexOf('.', start);
+            if (start < 0) return false;
+        }
+        return false;
+    }
+}
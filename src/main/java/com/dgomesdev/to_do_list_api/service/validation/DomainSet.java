@@ -0,0 +1,50 @@
+package com.dgomesdev.to_do_list_api.service.validation;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Compact, read-only, case-insensitive set of domains backed by a single open-addressing array.
+ * Lookups hash a region of the candidate string in place, so checking a domain never allocates.
+ */
+final class DomainSet {
+
+    private final String[] table;
+    private final int mask;
+
+    DomainSet(Collection<String> domains) {
+        int capacity = Integer.highestOneBit(Math.max(domains.size(), 1) * 2 - 1) << 1;
+        this.table = new String[capacity];
+        this.mask = capacity - 1;
+        for (String domain : domains) {
+            var normalized = domain.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty() && !contains(normalized, 0, normalized.length())) insert(normalized);
+        }
+    }
+
+    boolean contains(String value, int from, int to) {
+        int length = to - from;
+        int index = hash(value, from, to) & mask;
+        String entry;
+        while ((entry = table[index]) != null) {
+            if (entry.length() == length && entry.regionMatches(true, 0, value, from, length)) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private void insert(String domain) {
+        int index = hash(domain, 0, domain.length()) & mask;
+        while (table[index] != null) index = (index + 1) & mask;
+        table[index] = domain;
+    }
+
+    private static int hash(String value, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            hash = 31 * hash + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
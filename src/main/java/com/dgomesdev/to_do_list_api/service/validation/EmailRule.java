@@ -0,0 +1,11 @@
+package com.dgomesdev.to_do_list_api.service.validation;
+
+/**
+ * Extra check applied by {@link EmailValidator} once an address is syntactically valid.
+ * Rules receive the index of the '@' so they can inspect the local or domain part without allocating substrings.
+ */
+@FunctionalInterface
+public interface EmailRule {
+
+    boolean rejects(String email, int atIndex);
+}
@@ -0,0 +1,73 @@
+package com.dgomesdev.to_do_list_api.service.validation;
+
+import java.util.List;
+
+/**
+ * Single-pass e-mail validator equivalent to {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$}
+ * without consecutive dots, followed by the configured {@link EmailRule}s.
+ * It allocates nothing per call and is safe to share between threads.
+ */
+public class EmailValidator {
+
+    private static final EmailValidator STANDARD = new EmailValidator(List.of());
+
+    private final List<EmailRule> rules;
+
+    public EmailValidator(List<EmailRule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public static EmailValidator standard() {
+        return STANDARD;
+    }
+
+    public boolean isValid(String email) {
+        if (email == null) return false;
+
+        int length = email.length();
+        int atIndex = -1;
+        int lastDotIndex = -1;
+        boolean lettersOnlySinceDot = false;
+        char previous = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.' && previous == '.') return false;
+
+            if (c == '@') {
+                if (atIndex >= 0 || i == 0) return false;
+                atIndex = i;
+            } else if (atIndex < 0) {
+                if (!isLocalPartChar(c)) return false;
+            } else if (c == '.') {
+                lastDotIndex = i;
+                lettersOnlySinceDot = true;
+            } else if (isAsciiLetter(c)) {
+                // still a candidate top-level domain
+            } else if ((c >= '0' && c <= '9') || c == '-') {
+                lettersOnlySinceDot = false;
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+
+        // The domain needs at least one character before its last dot and a top-level domain of two or more letters
+        if (atIndex < 0 || lastDotIndex < atIndex + 2 || length - lastDotIndex < 3 || !lettersOnlySinceDot) return false;
+
+        for (EmailRule rule : rules) {
+            if (rule.rejects(email, atIndex)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetter(c)
+                || (c >= '0' && c <= '9')
+                || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+}
@@ -0,0 +1,18 @@
+-- The mail outbox shipped without DDL while production still had Hibernate validate the schema, so databases
+-- baselined at V1 do not have it. IF NOT EXISTS keeps this a no-op where V1 already created it.
+
+CREATE TABLE IF NOT EXISTS tb_mail_outbox (
+    id              UUID          NOT NULL,
+    type            VARCHAR(255)  NOT NULL,
+    recipient       VARCHAR(255)  NOT NULL,
+    username        VARCHAR(255),
+    code            VARCHAR(255),
+    status          VARCHAR(255)  NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    claim_token     UUID,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT pk_mail_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,33 @@
+-- Schema as Hibernate generated it before migrations took over. Existing databases are baselined at this version,
+-- so nothing added after that point belongs here: it goes in a later migration that also runs on baselined databases.
+
+CREATE TABLE tb_user (
+    id         UUID         NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE user_authorities (
+    user_id          UUID         NOT NULL,
+    user_authorities VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_user_authorities PRIMARY KEY (user_id, user_authorities),
+    CONSTRAINT fk_user_authorities_user FOREIGN KEY (user_id) REFERENCES tb_user (id)
+);
+
+CREATE TABLE tb_tasks (
+    id          UUID         NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    priority    SMALLINT     NOT NULL,
+    status      SMALLINT     NOT NULL,
+    user_id     UUID         NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES tb_user (id)
+);
@@ -0,0 +1,11 @@
+-- One row per deleted task so delta sync can tell clients what to remove. Rows outlive their user on purpose
+-- and are purged after the retention period, after which a client has to run a full sync.
+
+CREATE TABLE tb_task_tombstones (
+    task_id    UUID         NOT NULL,
+    user_id    UUID         NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_tombstones PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstones_user_deleted ON tb_task_tombstones (user_id, deleted_at, task_id);
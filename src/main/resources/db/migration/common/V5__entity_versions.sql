@@ -0,0 +1,5 @@
+-- Optimistic locking: every write bumps the version and a write that expects another version matches no row.
+-- The constant default fills existing rows without rewriting the table on Postgres 11+.
+
+ALTER TABLE tb_tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tb_user ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
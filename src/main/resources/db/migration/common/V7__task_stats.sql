@@ -0,0 +1,19 @@
+-- Task counters per user, status and priority, so task stats are read from nine rows instead of counting tb_tasks.
+-- Every write of a task adjusts them in its own transaction and a nightly job repairs any drift. Rows outlive their
+-- user like tombstones; deleting a user deletes them.
+
+CREATE TABLE tb_task_stats (
+    user_id    UUID     NOT NULL,
+    status     SMALLINT NOT NULL,
+    priority   SMALLINT NOT NULL,
+    task_count BIGINT   NOT NULL,
+    CONSTRAINT pk_task_stats PRIMARY KEY (user_id, status, priority)
+);
+
+INSERT INTO tb_task_stats (user_id, status, priority, task_count)
+SELECT u.id, s.status, p.priority, COUNT(t.id)
+FROM tb_user u
+CROSS JOIN (SELECT 0 AS status UNION ALL SELECT 1 UNION ALL SELECT 2) s
+CROSS JOIN (SELECT 0 AS priority UNION ALL SELECT 1 UNION ALL SELECT 2) p
+LEFT JOIN tb_tasks t ON t.user_id = u.id AND t.status = s.status AND t.priority = p.priority
+GROUP BY u.id, s.status, p.priority;
@@ -0,0 +1 @@
+CREATE INDEX idx_tasks_user_created ON tb_tasks (user_id, created_at, id);
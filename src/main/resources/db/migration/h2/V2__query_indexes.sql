@@ -0,0 +1,14 @@
+-- H2 has neither partial nor expression indexes, so it gets the plain composite versions
+-- and a generated column to enforce case-insensitive e-mail uniqueness.
+
+CREATE INDEX idx_tasks_user_status_priority_created ON tb_tasks (user_id, status, priority, created_at, id);
+
+CREATE INDEX idx_tasks_user_priority_created ON tb_tasks (user_id, priority, created_at, id);
+
+ALTER TABLE tb_user ADD COLUMN email_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(email));
+
+CREATE UNIQUE INDEX ux_user_email_lower ON tb_user (email_lower);
+
+CREATE INDEX idx_mail_outbox_due ON tb_mail_outbox (status, next_attempt_at);
+
+CREATE INDEX idx_mail_outbox_claim_token ON tb_mail_outbox (claim_token);
@@ -0,0 +1,3 @@
+-- Delta sync reads a user's tasks in (updated_at, id) order from the cursor on.
+
+CREATE INDEX idx_tasks_user_updated ON tb_tasks (user_id, updated_at, id);
@@ -0,0 +1,4 @@
+-- Keyset page of a user's tasks with no filter. Built CONCURRENTLY so databases baselined at V1 get it without
+-- blocking writes.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_created
+    ON tb_tasks (user_id, created_at, id);
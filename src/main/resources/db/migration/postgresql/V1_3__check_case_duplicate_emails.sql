@@ -0,0 +1,14 @@
+-- V2 makes e-mails unique regardless of case, which fails halfway on accounts whose e-mails only differ in case.
+-- Stop here instead, before any index is built, and leave the choice of which account to keep to an operator:
+-- see "Database migrations" in the README. Only the count is reported, the addresses stay out of the logs.
+DO $$
+DECLARE
+    duplicates BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO duplicates
+    FROM (SELECT 1 FROM tb_user GROUP BY LOWER(email) HAVING COUNT(*) > 1) AS duplicate_emails;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION '% e-mail(s) are shared by accounts that only differ in case', duplicates
+            USING HINT = 'Merge or remove the extra accounts, then rerun the migration';
+    END IF;
+END $$;
@@ -0,0 +1,24 @@
+-- Built CONCURRENTLY so writes keep flowing while the indexes are created on a live database.
+-- A failed CONCURRENTLY build leaves an INVALID index behind: drop it and rerun the migration.
+
+-- Page of a user's tasks filtered by status and priority, in keyset order.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_status_priority_created
+    ON tb_tasks (user_id, status, priority, created_at, id);
+
+-- Same page filtered by priority only, restricted to open tasks (status DONE = 2), which is what clients list.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_open_user_priority_created
+    ON tb_tasks (user_id, priority, created_at, id)
+    WHERE status <> 2;
+
+-- Case-insensitive login and registration lookups.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_user_email_lower
+    ON tb_user (LOWER(email));
+
+-- Outbox polling only ever looks at messages that can still be sent.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mail_outbox_due
+    ON tb_mail_outbox (next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mail_outbox_claim_token
+    ON tb_mail_outbox (claim_token)
+    WHERE claim_token IS NOT NULL;
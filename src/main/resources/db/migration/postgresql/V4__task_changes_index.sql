@@ -0,0 +1,4 @@
+-- Delta sync reads a user's tasks in (updated_at, id) order from the cursor on, so its cost follows the number
+-- of changes rather than the number of tasks.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_updated
+    ON tb_tasks (user_id, updated_at, id);
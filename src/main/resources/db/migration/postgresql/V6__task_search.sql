@@ -0,0 +1,11 @@
+-- Full-text search over a user's tasks. The vector is a generated column, so Postgres keeps it in step with every
+-- insert and update of the title or description; titles rank above descriptions. The 'simple' configuration only
+-- lowercases, because tasks are written in any language.
+-- Adding a stored generated column rewrites the table once under an exclusive lock; the index is built concurrently.
+ALTER TABLE tb_tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search
+    ON tb_tasks USING GIN (search_vector);
@@ -0,0 +1,9 @@
+-- The search index covered every user's tasks, so a common word matched rows of all users before the user_id
+-- filter ran. btree_gin lets the GIN index lead with user_id, so a search only reads the user's own postings.
+-- Creating the extension needs a role allowed to (a superuser, or the database owner on Postgres 13+).
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_search
+    ON tb_tasks USING GIN (user_id, search_vector);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_search;
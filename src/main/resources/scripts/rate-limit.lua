@@ -0,0 +1,32 @@
+-- Token buckets for one request, checked and updated atomically in a single round trip.
+-- KEYS: one hash per bucket. ARGV: capacity and period in milliseconds of each bucket, in the order of KEYS.
+-- Takes a token from every bucket only when all of them hold one.
+-- Returns 0 when allowed, otherwise the milliseconds until every bucket holds a token again.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local tokens = {}
+local retry_after = 0
+
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local period = tonumber(ARGV[2 * i])
+    local rate = capacity / period
+    local bucket = redis.call('HMGET', key, 'tokens', 'at')
+    local available = tonumber(bucket[1]) or capacity
+    local at = tonumber(bucket[2]) or now
+    available = math.min(capacity, available + math.max(0, now - at) * rate)
+    tokens[i] = available
+    if available < 1 then
+        retry_after = math.max(retry_after, math.ceil((1 - available) / rate))
+    end
+end
+
+if retry_after == 0 then
+    for i, key in ipairs(KEYS) do
+        redis.call('HSET', key, 'tokens', tostring(tokens[i] - 1), 'at', now)
+        -- A bucket untouched for a whole period is full again, so it can expire
+        redis.call('PEXPIRE', key, ARGV[2 * i])
+    end
+end
+
+return retry_after
@@ -0,0 +1,24 @@
+package com.dgomesdev.to_do_list_api.reactive;
+
+import com.dgomesdev.to_do_list_api.service.impl.TokenServiceImpl;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * WebFlux + R2DBC variant of the API, serving the task, user, register and login endpoints with the same contract
+ * as the servlet application. Run it with {@code ./gradlew bootRunReactive}.
+ */
+// Users come from tb_user, not from a generated in-memory account
+@SpringBootApplication(exclude = ReactiveUserDetailsServiceAutoConfiguration.class)
+@Import(TokenServiceImpl.class)
+public class ReactiveToDoListApiApplication {
+
+	public static void main(String[] args) {
+		var application = new SpringApplication(ReactiveToDoListApiApplication.class);
+		application.setAdditionalProfiles("reactive");
+		application.run(args);
+	}
+
+}
@@ -0,0 +1,237 @@
+package com.dgomesdev.to_do_list_api.reactive.data;
+
+import com.dgomesdev.to_do_list_api.data.id.UuidV7Sequence;
+import com.dgomesdev.to_do_list_api.data.repository.TaskWriteStatements;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskCursor;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsDelta;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsKey;
+import com.dgomesdev.to_do_list_api.domain.model.TaskWrite;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * tb_tasks over R2DBC. Rows map straight to {@link TaskModel}, there is no entity in between.
+ * Priority and status are stored by ordinal, like the JPA mapping does. Writes keep the user's counters in
+ * tb_task_stats in step the same way the JPA repository does, with the same statements.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, priority, status, user_id, created_at, updated_at, version";
+
+    private final DatabaseClient databaseClient;
+    private final boolean postgres;
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.postgres = "PostgreSQL".equalsIgnoreCase(databaseClient.getConnectionFactory().getMetadata().getName());
+    }
+
+    public Mono<TaskModel> findById(UUID taskId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tb_tasks WHERE id = :taskId")
+                .bind("taskId", taskId)
+                .map(ReactiveTaskRepository::toModel)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(UUID taskId) {
+        return databaseClient.sql("SELECT id FROM tb_tasks WHERE id = :taskId")
+                .bind("taskId", taskId)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Flux<TaskModel> findAllByUserId(UUID userId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tb_tasks WHERE user_id = :userId ORDER BY created_at, id")
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toModel)
+                .all();
+    }
+
+    public Flux<TaskModel> findPageByUserId(UUID userId, Status status, Priority priority, TaskCursor from, int limit) {
+        var sql = new StringBuilder("SELECT " + COLUMNS + " FROM tb_tasks WHERE user_id = :userId");
+        if (status != null) sql.append(" AND status = :status");
+        if (priority != null) sql.append(" AND priority = :priority");
+        sql.append(" AND (created_at > :createdAt OR (created_at = :createdAt AND id > :taskId))");
+        sql.append(" ORDER BY created_at, id LIMIT :limit");
+
+        var createdAt = Timestamps.toLocalDateTime(from.createdAt());
+        var spec = databaseClient.sql(sql.toString())
+                .bind("userId", userId)
+                .bind("createdAt", createdAt)
+                .bind("taskId", from.taskId())
+                .bind("limit", limit);
+        if (status != null) spec = spec.bind("status", (short) status.ordinal());
+        if (priority != null) spec = spec.bind("priority", (short) priority.ordinal());
+        return spec.map(ReactiveTaskRepository::toModel).all();
+    }
+
+    public Mono<TaskModel> insert(TaskModel task, UUID userId) {
+        var taskId = UuidV7Sequence.next();
+        var now = Timestamps.now();
+        var priority = task.getPriority() == null ? Priority.MEDIUM : task.getPriority();
+        var status = task.getStatus() == null ? Status.TO_BE_DONE : task.getStatus();
+        var spec = databaseClient.sql("""
+                        INSERT INTO tb_tasks (id, title, description, priority, status, user_id, created_at, updated_at)
+                        VALUES (:taskId, :title, :description, :priority, :status, :userId, :createdAt, :updatedAt)
+                        """)
+                .bind("taskId", taskId)
+                .bind("title", task.getTitle())
+                .bind("priority", (short) priority.ordinal())
+                .bind("status", (short) status.ordinal())
+                .bind("userId", userId)
+                .bind("createdAt", now)
+                .bind("updatedAt", now);
+        spec = task.getDescription() == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", task.getDescription());
+        return spec.fetch()
+                .rowsUpdated()
+                .then(adjust(userId, new TaskStatsDelta().add(new TaskStatsKey(status, priority))))
+                .thenReturn(new TaskModel.Builder()
+                        .withTaskId(taskId)
+                        .withTitle(task.getTitle())
+                        .withDescription(task.getDescription())
+                        .withPriority(priority)
+                        .withStatus(status)
+                        .withUserId(userId)
+                        .withCreatedAt(Timestamps.toDate(now))
+                        .withUpdatedAt(Timestamps.toDate(now))
+                        .withVersion(0L)
+                        .build());
+    }
+
+    /**
+     * Same single ownership-checked UPDATE as the JPA repository, writing only the supplied columns and bumping
+     * the version. Only for a patch that leaves status and priority alone, any other goes through
+     * {@link #patchOwnedCounted}.
+     */
+    public Mono<Long> patchOwned(UUID taskId, UUID userId, TaskPatch patch, Date updatedAt) {
+        var sql = new StringBuilder("UPDATE tb_tasks SET updated_at = :updatedAt, version = version + 1");
+        if (patch.title() != null) sql.append(", title = :title");
+        if (patch.description() != null) sql.append(", description = :description");
+        if (patch.priority() != null) sql.append(", priority = :priority");
+        if (patch.status() != null) sql.append(", status = :status");
+        sql.append(" WHERE id = :taskId AND user_id = :userId");
+
+        var spec = databaseClient.sql(sql.toString())
+                .bind("updatedAt", Timestamps.toLocalDateTime(updatedAt.toInstant()))
+                .bind("taskId", taskId)
+                .bind("userId", userId);
+        if (patch.title() != null) spec = spec.bind("title", patch.title());
+        if (patch.description() != null) spec = spec.bind("description", patch.description());
+        if (patch.priority() != null) spec = spec.bind("priority", (short) patch.priority().ordinal());
+        if (patch.status() != null) spec = spec.bind("status", (short) patch.status().ordinal());
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * Writes the patch and moves the task between the user's counters.
+     *
+     * @return empty when the task does not exist or belongs to another user
+     */
+    public Mono<TaskWrite> patchOwnedCounted(UUID taskId, UUID userId, TaskPatch patch, Date updatedAt) {
+        var spec = databaseClient.sql(TaskWriteStatements.patch(postgres, patch, false))
+                .bind("updatedAt", Timestamps.toLocalDateTime(updatedAt.toInstant()))
+                .bind("taskId", taskId)
+                .bind("userId", userId);
+        if (patch.title() != null) spec = spec.bind("title", patch.title());
+        if (patch.description() != null) spec = spec.bind("description", patch.description());
+        if (patch.priority() != null) spec = spec.bind("priority", (short) patch.priority().ordinal());
+        if (patch.status() != null) spec = spec.bind("status", (short) patch.status().ordinal());
+        return spec.map(ReactiveTaskRepository::toWrite)
+                .one()
+                .flatMap(write -> postgres ? Mono.just(write) : adjust(userId, new TaskStatsDelta().move(write.counted(), new TaskStatsKey(
+                        patch.status() == null ? write.counted().status() : patch.status(),
+                        patch.priority() == null ? write.counted().priority() : patch.priority()
+                ))).thenReturn(write));
+    }
+
+    public Mono<Long> findVersion(UUID taskId) {
+        return databaseClient.sql("SELECT version FROM tb_tasks WHERE id = :taskId")
+                .bind("taskId", taskId)
+                .map(row -> ((Number) row.get("version")).longValue())
+                .one();
+    }
+
+    /**
+     * Deletes an owned task and takes it out of the user's counter it was in.
+     *
+     * @return empty when the task does not exist or belongs to another user
+     */
+    public Mono<TaskWrite> deleteOwned(UUID taskId, UUID userId) {
+        return databaseClient.sql(TaskWriteStatements.delete(postgres, false))
+                .bind("taskId", taskId)
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toWrite)
+                .one()
+                .flatMap(write -> postgres
+                        ? Mono.just(write)
+                        : adjust(userId, new TaskStatsDelta().remove(write.counted())).thenReturn(write));
+    }
+
+    public Mono<Long> insertTombstone(UUID taskId, UUID userId) {
+        return databaseClient.sql("INSERT INTO tb_task_tombstones (task_id, user_id, deleted_at) VALUES (:taskId, :userId, :deletedAt)")
+                .bind("taskId", taskId)
+                .bind("userId", userId)
+                .bind("deletedAt", Timestamps.now())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Runs the counter updates one after the other, in the order the delta hands them out.
+     */
+    private Mono<Void> adjust(UUID userId, TaskStatsDelta delta) {
+        var changes = new ArrayList<TaskStatsCount>();
+        delta.forEach(changes::add);
+        return Flux.fromIterable(changes)
+                .concatMap(change -> databaseClient.sql(TaskWriteStatements.ADJUST)
+                        .bind("delta", change.count())
+                        .bind("userId", userId)
+                        .bind("status", (short) change.status().ordinal())
+                        .bind("priority", (short) change.priority().ordinal())
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    private static TaskWrite toWrite(Readable row) {
+        return new TaskWrite(
+                new TaskStatsKey(
+                        Status.values()[((Number) row.get("status")).intValue()],
+                        Priority.values()[((Number) row.get("priority")).intValue()]
+                ),
+                ((Number) row.get("version")).longValue()
+        );
+    }
+
+    private static TaskModel toModel(Readable row) {
+        // SMALLINT comes back as Short or Integer depending on the driver
+        return new TaskModel.Builder()
+                .withTaskId(row.get("id", UUID.class))
+                .withTitle(row.get("title", String.class))
+                .withDescription(row.get("description", String.class))
+                .withPriority(Priority.values()[((Number) row.get("priority")).intValue()])
+                .withStatus(Status.values()[((Number) row.get("status")).intValue()])
+                .withUserId(row.get("user_id", UUID.class))
+                .withCreatedAt(Timestamps.toDate(row.get("created_at", LocalDateTime.class)))
+                .withUpdatedAt(Timestamps.toDate(row.get("updated_at", LocalDateTime.class)))
+                .withVersion(((Number) row.get("version")).longValue())
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.dgomesdev.to_do_list_api.reactive.data;
+
+import com.dgomesdev.to_do_list_api.data.id.UuidV7Sequence;
+import com.dgomesdev.to_do_list_api.data.repository.UserCredentials;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * tb_user and its user_authorities over R2DBC. Reads return one {@link UserCredentials} row per authority,
+ * joined in a single statement, like the JPA login projection.
+ */
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String CREDENTIALS = """
+            SELECT u.id, u.username, u.email, u.password, a.user_authorities
+            FROM tb_user u LEFT JOIN user_authorities a ON a.user_id = u.id
+            """;
+    /**
+     * The zeroed task counters of a new user, one row per status and priority like the JPA registration saves.
+     */
+    private static final String INSERT_EMPTY_COUNTERS = "INSERT INTO tb_task_stats (user_id, status, priority, task_count) VALUES "
+            + Arrays.stream(Status.values())
+                    .flatMap(status -> Arrays.stream(Priority.values())
+                            .map(priority -> "(:userId, " + status.ordinal() + ", " + priority.ordinal() + ", 0)"))
+                    .collect(Collectors.joining(", "));
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<UserCredentials> findCredentialsByEmail(String email) {
+        return databaseClient.sql(CREDENTIALS + "WHERE LOWER(u.email) = LOWER(:email)")
+                .bind("email", email)
+                .map(ReactiveUserRepository::toCredentials)
+                .all();
+    }
+
+    public Flux<UserCredentials> findCredentialsById(UUID userId) {
+        return databaseClient.sql(CREDENTIALS + "WHERE u.id = :userId")
+                .bind("userId", userId)
+                .map(ReactiveUserRepository::toCredentials)
+                .all();
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT id FROM tb_user WHERE LOWER(email) = LOWER(:email)")
+                .bind("email", email)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<UUID> insert(String username, String password, String email, Collection<UserAuthority> authorities) {
+        var userId = UuidV7Sequence.next();
+        var now = Timestamps.now();
+        return databaseClient.sql("""
+                        INSERT INTO tb_user (id, username, password, email, created_at, updated_at)
+                        VALUES (:userId, :username, :password, :email, :createdAt, :updatedAt)
+                        """)
+                .bind("userId", userId)
+                .bind("username", username)
+                .bind("password", password)
+                .bind("email", email)
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .fetch()
+                .rowsUpdated()
+                .then(insertAuthorities(userId, authorities))
+                .then(databaseClient.sql(INSERT_EMPTY_COUNTERS)
+                        .bind("userId", userId)
+                        .fetch()
+                        .rowsUpdated())
+                .thenReturn(userId);
+    }
+
+    public Mono<Long> update(UUID userId, String username, String email, String password, Date updatedAt) {
+        return databaseClient.sql("""
+                        UPDATE tb_user SET username = :username, email = :email, password = :password, updated_at = :updatedAt,
+                            version = version + 1
+                        WHERE id = :userId
+                        """)
+                .bind("userId", userId)
+                .bind("username", username)
+                .bind("email", email)
+                .bind("password", password)
+                .bind("updatedAt", Timestamps.toLocalDateTime(updatedAt.toInstant()))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> updatePassword(UUID userId, String password, Date updatedAt) {
+        return databaseClient.sql("UPDATE tb_user SET password = :password, updated_at = :updatedAt, version = version + 1 WHERE id = :userId")
+                .bind("userId", userId)
+                .bind("password", password)
+                .bind("updatedAt", Timestamps.toLocalDateTime(updatedAt.toInstant()))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Void> replaceAuthorities(UUID userId, Collection<UserAuthority> authorities) {
+        return deleteAuthorities(userId).then(insertAuthorities(userId, authorities));
+    }
+
+    /**
+     * Tasks and authorities have no ON DELETE CASCADE, so they go first. Call it inside a transaction.
+     */
+    public Mono<Long> delete(UUID userId) {
+        return databaseClient.sql("DELETE FROM tb_tasks WHERE user_id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("DELETE FROM tb_task_stats WHERE user_id = :userId")
+                        .bind("userId", userId)
+                        .fetch()
+                        .rowsUpdated())
+                .then(deleteAuthorities(userId))
+                .then(databaseClient.sql("DELETE FROM tb_user WHERE id = :userId")
+                        .bind("userId", userId)
+                        .fetch()
+                        .rowsUpdated());
+    }
+
+    private Mono<Void> insertAuthorities(UUID userId, Collection<UserAuthority> authorities) {
+        return Flux.fromIterable(authorities)
+                .concatMap(authority -> databaseClient
+                        .sql("INSERT INTO user_authorities (user_id, user_authorities) VALUES (:userId, :authority)")
+                        .bind("userId", userId)
+                        .bind("authority", authority.name())
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    private Mono<Void> deleteAuthorities(UUID userId) {
+        return databaseClient.sql("DELETE FROM user_authorities WHERE user_id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private static UserCredentials toCredentials(Readable row) {
+        var authority = row.get("user_authorities", String.class);
+        return new UserCredentials(
+                row.get("id", UUID.class),
+                row.get("username", String.class),
+                row.get("email", String.class),
+                row.get("password", String.class),
+                authority == null ? null : UserAuthority.valueOf(authority)
+        );
+    }
+}
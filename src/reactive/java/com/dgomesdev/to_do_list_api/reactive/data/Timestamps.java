@@ -0,0 +1,29 @@
+package com.dgomesdev.to_do_list_api.reactive.data;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+/**
+ * The timestamp columns hold local date-times in the JVM zone, which is how Hibernate writes {@link Date}.
+ * Values are kept at millisecond precision so task cursors, built from {@link Date}, compare equal to the stored rows.
+ */
+final class Timestamps {
+
+    private Timestamps() {}
+
+    static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    static Date toDate(LocalDateTime localDateTime) {
+        return localDateTime == null ? null : Timestamp.valueOf(localDateTime);
+    }
+}
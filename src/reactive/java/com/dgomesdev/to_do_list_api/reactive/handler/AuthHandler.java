@@ -0,0 +1,49 @@
+package com.dgomesdev.to_do_list_api.reactive.handler;
+
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
+import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
+import com.dgomesdev.to_do_list_api.reactive.service.interfaces.ReactiveUserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Register and login. Password recovery needs the mail outbox, which only the servlet stack runs.
+ */
+@Component
+public class AuthHandler {
+
+    private final ReactiveUserService userService;
+
+    public AuthHandler(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    public Mono<ServerResponse> register(ServerRequest request) {
+        return Requests.body(request, UserRequestDto.class)
+                .flatMap(user -> userService.saveUser(new UserModel.Builder()
+                        .withUsername(user.username())
+                        .withPassword(user.password())
+                        .withEmail(user.email().trim().toLowerCase())
+                        .withUserAuthorities(Set.of(UserAuthority.USER))
+                        .build()
+                ))
+                .flatMap(savedUser -> ServerResponse
+                        .status(HttpStatus.CREATED)
+                        .bodyValue(new UserResponseDto(savedUser)));
+    }
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return Requests.body(request, UserRequestDto.class)
+                .flatMap(user -> userService.login(user.email().trim(), user.password()))
+                .flatMap(loggedUser -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(new UserResponseDto(loggedUser)));
+    }
+}
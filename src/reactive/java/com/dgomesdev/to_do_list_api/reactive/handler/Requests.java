@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.reactive.handler;
+
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+
+final class Requests {
+
+    private Requests() {}
+
+    static <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new InvalidRequestException("Request body is required")));
+    }
+}
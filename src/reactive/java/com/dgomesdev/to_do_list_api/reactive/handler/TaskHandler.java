@@ -0,0 +1,132 @@
+package com.dgomesdev.to_do_list_api.reactive.handler;
+
+import com.dgomesdev.to_do_list_api.controller.EntityTags;
+import com.dgomesdev.to_do_list_api.controller.TaskController;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import com.dgomesdev.to_do_list_api.dto.request.TaskPatchRequestDto;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import com.dgomesdev.to_do_list_api.dto.response.DeletedTaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskPageResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
+import com.dgomesdev.to_do_list_api.reactive.service.interfaces.ReactiveTaskService;
+import com.dgomesdev.to_do_list_api.reactive.service.interfaces.ReactiveUserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Same contract as {@link TaskController}, except for {@code POST /tasks/batch} which only the servlet stack serves.
+ */
+@Component
+public class TaskHandler {
+
+    private final ReactiveTaskService taskService;
+    private final ReactiveUserService userService;
+
+    public TaskHandler(ReactiveTaskService taskService, ReactiveUserService userService) {
+        this.taskService = taskService;
+        this.userService = userService;
+    }
+
+    public Mono<ServerResponse> saveTask(ServerRequest request) {
+        return Requests.body(request, TaskRequestDto.class)
+                .flatMap(taskRequestDto -> taskService.saveTask(new TaskModel.Builder().fromRequest(taskRequestDto).build()))
+                .flatMap(savedTask -> respond(request, HttpStatus.CREATED, savedTask));
+    }
+
+    public Mono<ServerResponse> findTasks(ServerRequest request) {
+        return Mono.defer(() -> taskService.findTasks(
+                        request.queryParam("status").map(Status::valueOf).orElse(null),
+                        request.queryParam("priority").map(Priority::valueOf).orElse(null),
+                        request.queryParam("cursor").orElse(null),
+                        request.queryParam("size").map(Integer::parseInt).orElse(50)
+                ))
+                .flatMap(page -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(new TaskPageResponseDto(page)));
+    }
+
+    public Mono<ServerResponse> findTaskById(ServerRequest request) {
+        return Mono.defer(() -> taskService.findTaskById(taskId(request)))
+                .flatMap(foundTask -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(new TaskResponseDto(foundTask)));
+    }
+
+    public Mono<ServerResponse> updateTask(ServerRequest request) {
+        return Requests.body(request, TaskRequestDto.class)
+                .flatMap(taskRequestDto -> taskService.updateTask(
+                        taskId(request),
+                        new TaskModel.Builder().fromRequest(taskRequestDto).build()
+                ))
+                .flatMap(updatedTask -> respond(request, HttpStatus.OK, updatedTask));
+    }
+
+    public Mono<ServerResponse> patchTask(ServerRequest request) {
+        return Requests.body(request, TaskPatchRequestDto.class).flatMap(taskPatchRequestDto -> {
+            var taskId = taskId(request);
+            return taskService.patchTask(taskId, TaskPatch.fromRequest(taskPatchRequestDto)).flatMap(version -> {
+                var prefer = request.headers().firstHeader("Prefer");
+                if (prefer != null && prefer.contains("return=minimal")) {
+                    return ServerResponse
+                            .status(HttpStatus.NO_CONTENT)
+                            .eTag(EntityTags.of(version))
+                            .header("Preference-Applied", "return=minimal")
+                            .build();
+                }
+                return taskService.findTaskById(taskId).flatMap(patchedTask -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .headers(headers -> EntityTags.apply(headers, patchedTask))
+                        .bodyValue(new TaskResponseDto(patchedTask)));
+            });
+        });
+    }
+
+    public Mono<ServerResponse> deleteTask(ServerRequest request) {
+        return Mono.defer(() -> {
+            var taskId = taskId(request);
+            return taskService.deleteTask(taskId).flatMap(deleted -> isUserView(request)
+                    ? userService.findUserById(deleted.userId()).flatMap(user -> ServerResponse
+                            .status(HttpStatus.OK)
+                            .eTag(EntityTags.of(UserVersion.of(user)))
+                            .bodyValue(new UserResponseDto(user)))
+                    : ServerResponse
+                            .status(HttpStatus.OK)
+                            .bodyValue(new DeletedTaskResponseDto(taskId, deleted.version())));
+        });
+    }
+
+    private Mono<ServerResponse> respond(ServerRequest request, HttpStatus status, TaskModel task) {
+        if (isUserView(request)) {
+            // The tag describes the user that is returned, as GET /user/{id} would send it
+            return userService.findUserById(task.getUserId()).flatMap(user -> ServerResponse
+                    .status(status)
+                    .eTag(EntityTags.of(UserVersion.of(user)))
+                    .bodyValue(new UserResponseDto(user)));
+        }
+        return ServerResponse
+                .status(status)
+                .headers(headers -> EntityTags.apply(headers, task))
+                .bodyValue(new TaskResponseDto(task));
+    }
+
+    private UUID taskId(ServerRequest request) {
+        return UUID.fromString(request.pathVariable("taskId"));
+    }
+
+    private boolean isUserView(ServerRequest request) {
+        var accept = request.headers().firstHeader(HttpHeaders.ACCEPT);
+        return request.queryParam("view").filter("user"::equalsIgnoreCase).isPresent()
+                || (accept != null && accept.contains(TaskController.USER_MEDIA_TYPE));
+    }
+}
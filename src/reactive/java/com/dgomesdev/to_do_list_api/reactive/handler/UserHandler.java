@@ -0,0 +1,60 @@
+package com.dgomesdev.to_do_list_api.reactive.handler;
+
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
+import com.dgomesdev.to_do_list_api.dto.response.MessageDto;
+import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
+import com.dgomesdev.to_do_list_api.reactive.service.interfaces.ReactiveUserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class UserHandler {
+
+    private final ReactiveUserService userService;
+
+    public UserHandler(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    public Mono<ServerResponse> findUserById(ServerRequest request) {
+        return Mono.defer(() -> userService.findUserById(userId(request)))
+                .flatMap(user -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(new UserResponseDto(user)));
+    }
+
+    public Mono<ServerResponse> updateUser(ServerRequest request) {
+        return Requests.body(request, UserRequestDto.class)
+                .flatMap(user -> userService.updateUser(
+                        new UserModel.Builder()
+                                .withUserId(userId(request))
+                                .withUsername(user.username())
+                                .withEmail(user.email().trim().toLowerCase())
+                                .withPassword(user.password())
+                                .withUserAuthorities(Set.of(UserAuthority.USER))
+                                .build()
+                ))
+                .flatMap(updatedUser -> ServerResponse
+                        .status(HttpStatus.OK)
+                        .bodyValue(new UserResponseDto(updatedUser)));
+    }
+
+    public Mono<ServerResponse> deleteUser(ServerRequest request) {
+        return Mono.defer(() -> userService.deleteUser(userId(request)))
+                .then(ServerResponse
+                        .status(HttpStatus.NO_CONTENT)
+                        .bodyValue(new MessageDto("User deleted successfully")));
+    }
+
+    private UUID userId(ServerRequest request) {
+        return UUID.fromString(request.pathVariable("userId"));
+    }
+}
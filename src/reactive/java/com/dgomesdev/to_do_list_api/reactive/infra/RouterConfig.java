@@ -0,0 +1,51 @@
+package com.dgomesdev.to_do_list_api.reactive.infra;
+
+import com.dgomesdev.to_do_list_api.controller.TaskController;
+import com.dgomesdev.to_do_list_api.infra.GlobalExceptionHandler;
+import com.dgomesdev.to_do_list_api.reactive.handler.AuthHandler;
+import com.dgomesdev.to_do_list_api.reactive.handler.TaskHandler;
+import com.dgomesdev.to_do_list_api.reactive.handler.UserHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+@Configuration
+public class RouterConfig {
+
+    /**
+     * Errors are mapped by the servlet stack's {@link GlobalExceptionHandler}, so both stacks answer
+     * with the same status codes and bodies.
+     */
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    @Bean
+    public RouterFunction<ServerResponse> routes(AuthHandler authHandler, TaskHandler taskHandler, UserHandler userHandler) {
+        return RouterFunctions.route()
+                .POST("/register", authHandler::register)
+                .POST("/login", authHandler::login)
+                .path("/tasks", tasks -> tasks
+                        .POST("", taskHandler::saveTask)
+                        .GET("", taskHandler::findTasks)
+                        .GET("/{taskId}", taskHandler::findTaskById)
+                        .PATCH("/{taskId}", contentType(MediaType.valueOf(TaskController.MERGE_PATCH_MEDIA_TYPE)), taskHandler::patchTask)
+                        .PATCH("/{taskId}", taskHandler::updateTask)
+                        .DELETE("/{taskId}", taskHandler::deleteTask))
+                .path("/user", user -> user
+                        .GET("/{userId}", userHandler::findUserById)
+                        .PATCH("/{userId}", userHandler::updateUser)
+                        .DELETE("/{userId}", userHandler::deleteUser))
+                .onError(Exception.class, (exception, request) -> {
+                    var response = exceptionHandler.handleGeneralException(exception);
+                    return ServerResponse
+                            .status(response.getStatusCode())
+                            .headers(headers -> headers.addAll(response.getHeaders()))
+                            .bodyValue(response.getBody());
+                })
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.dgomesdev.to_do_list_api.reactive.infra;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.infra.security.BCryptCostCalibrator;
+import com.dgomesdev.to_do_list_api.infra.security.BoundedPasswordEncoder;
+import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Same actuator rules as the servlet stack: health is public, the rest is open on the management port only.
+     */
+    @Bean
+    public SecurityWebFilterChain filterChain(
+            ServerHttpSecurity httpSecurity,
+            TokenService tokenService,
+            @Value("${management.server.port:-1}") int managementPort,
+            @Value("${server.port:8080}") int serverPort
+    ) {
+        ServerWebExchangeMatcher onManagementPort = exchange -> {
+            var local = exchange.getRequest().getLocalAddress();
+            return managementPort > 0 && managementPort != serverPort && local != null && local.getPort() == managementPort
+                    ? ServerWebExchangeMatcher.MatchResult.match()
+                    : ServerWebExchangeMatcher.MatchResult.notMatch();
+        };
+        var authFilter = new AuthenticationWebFilter(tokenAuthenticationManager(tokenService));
+        authFilter.setServerAuthenticationConverter(bearerTokenConverter());
+        return httpSecurity
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(authorize -> authorize
+                        .pathMatchers(HttpMethod.POST, "/login", "/register").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .matchers(onManagementPort).permitAll()
+                        .pathMatchers("/actuator/**").hasAuthority(UserAuthority.ADMIN.name())
+                        .anyExchange()
+                        .authenticated()
+                )
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
+                .addFilterAt(authFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * Same settings as the servlet stack. Callers must hop off the event loop before using it, the encoder
+     * blocks them until a hashing thread is done.
+     */
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${api.security.password.cost:0}") int cost,
+            @Value("${api.security.password.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${api.security.password.min-cost:10}") int minCost,
+            @Value("${api.security.password.max-cost:14}") int maxCost,
+            @Value("${api.security.password.threads:0}") int threads,
+            @Value("${api.security.password.queue-capacity:32}") int queueCapacity,
+            @Value("${api.security.password.timeout:PT2S}") Duration timeout
+    ) {
+        return new BoundedPasswordEncoder(
+                cost > 0 ? cost : BCryptCostCalibrator.calibrate(targetLatency, minCost, maxCost),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                timeout
+        );
+    }
+
+    private ReactiveAuthenticationManager tokenAuthenticationManager(TokenService tokenService) {
+        // HMAC verification takes microseconds, cheap enough for the event loop
+        return authentication -> Mono.fromCallable(() -> tokenService.getUserFromToken(authentication.getCredentials().toString()))
+                .onErrorMap(JWTVerificationException.class, exception -> new BadCredentialsException(exception.getMessage(), exception))
+                .map(user -> new UsernamePasswordAuthenticationToken(user.userId(), null, user.authorities()));
+    }
+
+    private ServerAuthenticationConverter bearerTokenConverter() {
+        return exchange -> {
+            var authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (authorizationHeader == null || authorizationHeader.isBlank()) return Mono.empty();
+            var token = authorizationHeader.startsWith(BEARER_PREFIX)
+                    ? authorizationHeader.substring(BEARER_PREFIX.length())
+                    : authorizationHeader;
+            return Mono.just(new UsernamePasswordAuthenticationToken(token, token));
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.dgomesdev.to_do_list_api.reactive.service.impl;
+
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.service.validation.EmailValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@code BaseServiceImpl}: the caller is read from the Reactor context
+ * instead of a thread-local, since one request may hop across several event-loop threads.
+ */
+public abstract class ReactiveBaseServiceImpl {
+
+    private EmailValidator emailValidator = EmailValidator.standard();
+
+    @Autowired(required = false)
+    public void setEmailValidator(EmailValidator emailValidator) {
+        this.emailValidator = emailValidator;
+    }
+
+    protected boolean isEmailInvalid(String email) {
+        return !emailValidator.isValid(email);
+    }
+
+    private Mono<Authentication> getSecurityContextAuthentication() {
+        return ReactiveSecurityContextHolder.getContext().map(SecurityContext::getAuthentication);
+    }
+
+    protected Mono<UUID> getUserId() {
+        return getSecurityContextAuthentication().map(authentication -> UUID.fromString(authentication.getPrincipal().toString()));
+    }
+
+    protected Mono<List<UserAuthority>> getUserAuthorities() {
+        return getSecurityContextAuthentication().map(authentication -> authentication.getAuthorities()
+                .stream()
+                .map(authority -> UserAuthority.valueOf(authority.getAuthority()))
+                .toList());
+    }
+}
@@ -0,0 +1,107 @@
+package com.dgomesdev.to_do_list_api.reactive.service.impl;
+
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+import com.dgomesdev.to_do_list_api.domain.exception.TaskNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
+import com.dgomesdev.to_do_list_api.domain.exception.UserNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.model.*;
+import com.dgomesdev.to_do_list_api.reactive.data.ReactiveTaskRepository;
+import com.dgomesdev.to_do_list_api.reactive.data.ReactiveUserRepository;
+import com.dgomesdev.to_do_list_api.reactive.service.interfaces.ReactiveTaskService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class ReactiveTaskServiceImpl extends ReactiveBaseServiceImpl implements ReactiveTaskService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveTaskServiceImpl(ReactiveTaskRepository taskRepository, ReactiveUserRepository userRepository) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<TaskModel> saveTask(TaskModel task) {
+        if (task.getTitle() == null || task.getTitle().isBlank())
+            return Mono.error(new InvalidRequestException("Title must not be blank"));
+
+        return getUserId().flatMap(userId -> userRepository.findCredentialsById(userId)
+                .hasElements()
+                .flatMap(exists -> exists
+                        ? taskRepository.insert(task, userId)
+                        : Mono.<TaskModel>error(new UserNotFoundException(userId))));
+    }
+
+    @Override
+    public Mono<TaskModel> findTaskById(UUID taskId) {
+        return Mono.zip(getUserId(), getUserAuthorities()).flatMap(caller -> taskRepository.findById(taskId)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(taskId)))
+                .filter(task -> task.getUserId().equals(caller.getT1()) || caller.getT2().contains(UserAuthority.ADMIN))
+                .switchIfEmpty(Mono.error(() -> new UnauthorizedUserException(caller.getT1()))));
+    }
+
+    @Override
+    public Mono<TaskPageModel> findTasks(Status status, Priority priority, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return getUserId().flatMap(userId -> taskRepository
+                // Fetch one extra row to know whether another page exists without running a count query
+                .findPageByUserId(userId, status, priority, TaskCursor.decode(cursor), pageSize + 1)
+                .collectList()
+                .map(tasks -> {
+                    var hasMore = tasks.size() > pageSize;
+                    var page = hasMore ? tasks.subList(0, pageSize) : tasks;
+                    return new TaskPageModel(page, hasMore ? TaskCursor.of(page.get(pageSize - 1)).encode() : null);
+                }));
+    }
+
+    @Override
+    public Mono<TaskModel> updateTask(UUID taskId, TaskModel task) {
+        return patchTask(taskId, TaskPatch.fromModel(task))
+                .then(taskRepository.findById(taskId))
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(taskId)));
+    }
+
+    @Override
+    public Mono<Long> patchTask(UUID taskId, TaskPatch patch) {
+        if (patch.isEmpty()) return Mono.error(new InvalidRequestException("Nothing to update"));
+        if (patch.title() != null && patch.title().isBlank())
+            return Mono.error(new InvalidRequestException("Title must not be blank"));
+
+        return getUserId().flatMap(userId -> {
+            // Only a patch that can move the task to another counter needs the write to report the one it was in
+            if (patch.status() != null || patch.priority() != null) {
+                return taskRepository.patchOwnedCounted(taskId, userId, patch, new Date())
+                        .map(TaskWrite::version)
+                        .switchIfEmpty(Mono.defer(() -> this.<Long>missingOrForeign(taskId, userId)));
+            }
+            return taskRepository.patchOwned(taskId, userId, patch, new Date())
+                    .flatMap(updated -> updated == 0
+                            ? this.<Long>missingOrForeign(taskId, userId)
+                            : taskRepository.findVersion(taskId));
+        });
+    }
+
+    @Override
+    public Mono<TaskVersion> deleteTask(UUID taskId) {
+        return getUserId().flatMap(userId -> taskRepository.deleteOwned(taskId, userId)
+                .flatMap(deleted -> taskRepository.insertTombstone(taskId, userId)
+                        .thenReturn(new TaskVersion(userId, deleted.version(), null)))
+                .switchIfEmpty(Mono.defer(() -> this.<TaskVersion>missingOrForeign(taskId, userId))));
+    }
+
+    private <T> Mono<T> missingOrForeign(UUID taskId, UUID userId) {
+        // Only a write that matched no row pays for this lookup
+        return taskRepository.existsById(taskId).flatMap(exists -> Mono.error(
+                exists ? new UnauthorizedUserException(userId) : new TaskNotFoundException(taskId)
+        ));
+    }
+}
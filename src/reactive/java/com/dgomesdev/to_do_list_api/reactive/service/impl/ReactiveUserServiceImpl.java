@@ -0,0 +1,212 @@
+package com.dgomesdev.to_do_list_api.reactive.service.impl;
+
+import com.dgomesdev.to_do_list_api.data.repository.UserCredentials;
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
+import com.dgomesdev.to_do_list_api.domain.exception.UserNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.reactive.data.ReactiveTaskRepository;
+import com.dgomesdev.to_do_list_api.reactive.data.ReactiveUserRepository;
+import com.dgomesdev.to_do_list_api.reactive.service.interfaces.ReactiveUserService;
+import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class ReactiveUserServiceImpl extends ReactiveBaseServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveTaskRepository taskRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenService tokenService;
+
+    public ReactiveUserServiceImpl(
+            ReactiveUserRepository userRepository,
+            ReactiveTaskRepository taskRepository,
+            PasswordEncoder passwordEncoder,
+            TokenService tokenService
+    ) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    public Mono<UserModel> saveUser(UserModel newUser) {
+        if (newUser.getEmail().isBlank() || this.isEmailInvalid(newUser.getEmail()))
+            return Mono.error(new InvalidRequestException("Invalid e-mail"));
+
+        var authorities = toUserAuthorities(newUser);
+        return userRepository.existsByEmail(newUser.getEmail()).flatMap(exists -> {
+            if (exists)
+                return Mono.error(new DataIntegrityViolationException("User " + newUser.getEmail() + " already exists"));
+            if (newUser.getPassword().isBlank())
+                return Mono.error(new InvalidRequestException("Invalid password"));
+
+            return encode(newUser.getPassword())
+                    .flatMap(hash -> userRepository.insert(newUser.getUsername(), hash, newUser.getEmail(), authorities))
+                    .map(userId -> {
+                        var response = new UserModel.Builder()
+                                .withUserId(userId)
+                                .withUsername(newUser.getUsername())
+                                .withEmail(newUser.getEmail())
+                                .withUserAuthorities(authorities)
+                                .build();
+                        response.setToken(tokenService.generateToken(response));
+                        return response;
+                    });
+        });
+    }
+
+    /**
+     * Checks the password off the event loop and signs the token once it matched. A hash made with another
+     * BCrypt cost is rewritten, like the servlet stack does through {@code UserDetailsPasswordService}.
+     */
+    @Override
+    public Mono<UserModel> login(String email, String password) {
+        return userRepository.findCredentialsByEmail(email).collectList().flatMap(credentials -> {
+            if (credentials.isEmpty() || password == null) return Mono.error(new BadCredentialsException("Bad credentials"));
+
+            var storedHash = credentials.get(0).password();
+            return matches(password, storedHash).flatMap(matches -> {
+                if (!matches) return Mono.error(new BadCredentialsException("Bad credentials"));
+
+                var user = toModel(credentials, List.of()).withPassword("").build();
+                var upgrade = passwordEncoder.upgradeEncoding(storedHash)
+                        ? encode(password).flatMap(hash -> userRepository.updatePassword(user.getUserId(), hash, new Date())).then()
+                        : Mono.<Void>empty();
+                return upgrade.then(Mono.fromSupplier(() -> {
+                    user.setToken(tokenService.generateToken(user));
+                    return user;
+                }));
+            });
+        });
+    }
+
+    @Override
+    public Mono<UserModel> findUserById(UUID userId) {
+        return getUserId().flatMap(callerId -> {
+            if (!userId.equals(callerId)) return Mono.error(new UnauthorizedUserException(userId));
+            return loadUser(userId);
+        });
+    }
+
+    @Override
+    public Mono<UserModel> updateUser(UserModel user) {
+        return getUserId().flatMap(callerId -> {
+            if (!user.getUserId().equals(callerId)) return Mono.error(new UnauthorizedUserException(user.getUserId()));
+
+            return userRepository.findCredentialsById(user.getUserId())
+                    .collectList()
+                    .flatMap(credentials -> {
+                        if (credentials.isEmpty()) return Mono.error(new UserNotFoundException(user.getUserId()));
+                        var existing = credentials.get(0);
+
+                        var email = existing.email();
+                        if (!user.getEmail().isBlank() && !existing.email().equals(user.getEmail())) {
+                            if (this.isEmailInvalid(user.getEmail()))
+                                return Mono.error(new InvalidRequestException("Invalid e-mail"));
+                            email = user.getEmail();
+                        }
+
+                        var existingAuthorities = toUserAuthorities(credentials);
+                        var userAuthorities = toUserAuthorities(user);
+                        var haveAuthoritiesBeenModified = !existingAuthorities.equals(userAuthorities);
+
+                        var newEmail = email;
+                        return newPasswordHash(user.getPassword(), existing.password())
+                                .flatMap(password -> userRepository.update(
+                                        user.getUserId(), user.getUsername(), newEmail, password, new Date()
+                                ))
+                                .then(haveAuthoritiesBeenModified
+                                        ? userRepository.replaceAuthorities(user.getUserId(), userAuthorities)
+                                        : Mono.<Void>empty())
+                                .then(loadUser(user.getUserId()))
+                                .map(updatedUser -> {
+                                    if (haveAuthoritiesBeenModified)
+                                        updatedUser.setToken(tokenService.generateToken(updatedUser));
+                                    return updatedUser;
+                                });
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteUser(UUID userId) {
+        return Mono.zip(getUserId(), getUserAuthorities()).flatMap(caller -> {
+            if (!userId.equals(caller.getT1()) && !caller.getT2().contains(UserAuthority.ADMIN))
+                return Mono.error(new UnauthorizedUserException(userId));
+            return userRepository.delete(userId)
+                    .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(new UserNotFoundException(userId)) : Mono.<Void>empty());
+        });
+    }
+
+    /**
+     * User joined with its authorities, then its tasks: two statements whatever the number of tasks.
+     * The password hash never leaves the repository.
+     */
+    private Mono<UserModel> loadUser(UUID userId) {
+        return userRepository.findCredentialsById(userId)
+                .collectList()
+                .flatMap(credentials -> credentials.isEmpty()
+                        ? Mono.error(new UserNotFoundException(userId))
+                        : taskRepository.findAllByUserId(userId)
+                                .collectList()
+                                .map(tasks -> toModel(credentials, tasks).withPassword("").build()));
+    }
+
+    private Mono<String> newPasswordHash(String password, String existingHash) {
+        if (password.isBlank()) return Mono.just(existingHash);
+        return matches(password, existingHash).flatMap(matches -> matches ? Mono.just(existingHash) : encode(password));
+    }
+
+    // BCrypt is CPU bound and the bounded encoder blocks its caller, so neither may run on the event loop
+    private Mono<String> encode(String password) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(password)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Boolean> matches(String password, String hash) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(password, hash)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static UserModel.Builder toModel(List<UserCredentials> credentials, List<TaskModel> tasks) {
+        var user = credentials.get(0);
+        return new UserModel.Builder()
+                .withUserId(user.userId())
+                .withUsername(user.username())
+                .withEmail(user.email())
+                .withPassword(user.password())
+                .withUserAuthorities(toUserAuthorities(credentials))
+                .withTasks(tasks);
+    }
+
+    private static Set<UserAuthority> toUserAuthorities(List<UserCredentials> credentials) {
+        return credentials.stream()
+                .map(UserCredentials::authority)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<UserAuthority> toUserAuthorities(UserModel user) {
+        return user.getAuthorities()
+                .stream()
+                .map(UserAuthority::fromGrantedAuthority)
+                .collect(Collectors.toSet());
+    }
+}
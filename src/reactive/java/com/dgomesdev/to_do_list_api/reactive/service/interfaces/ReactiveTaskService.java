@@ -0,0 +1,21 @@
+package com.dgomesdev.to_do_list_api.reactive.service.interfaces;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPageModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskVersion;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveTaskService {
+
+    Mono<TaskModel> saveTask(TaskModel newTask);
+    Mono<TaskModel> findTaskById(UUID taskId);
+    Mono<TaskPageModel> findTasks(Status status, Priority priority, String cursor, int size);
+    Mono<TaskModel> updateTask(UUID taskId, TaskModel updatedTask);
+    Mono<Long> patchTask(UUID taskId, TaskPatch patch);
+    Mono<TaskVersion> deleteTask(UUID taskId);
+}
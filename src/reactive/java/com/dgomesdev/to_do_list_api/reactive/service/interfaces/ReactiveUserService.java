@@ -0,0 +1,15 @@
+package com.dgomesdev.to_do_list_api.reactive.service.interfaces;
+
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveUserService {
+
+    Mono<UserModel> saveUser(UserModel newUser);
+    Mono<UserModel> login(String email, String password);
+    Mono<UserModel> findUserById(UUID userId);
+    Mono<UserModel> updateUser(UserModel updatedUser);
+    Mono<Void> deleteUser(UUID userId);
+}
@@ -0,0 +1,234 @@
+package com.dgomesdev.to_do_list_api.reactive.handler;
+
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskPageResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test;DB_CLOSE_DELAY=-1",
+                "spring.flyway.url=jdbc:h2:mem:reactive-test;DB_CLOSE_DELAY=-1",
+                "api.security.token.secret=test-secret-key",
+                "api.security.password.cost=4"
+        }
+)
+@ActiveProfiles("reactive")
+class TaskHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private String token;
+
+    @BeforeEach
+    void setup() {
+        token = register("user" + UUID.randomUUID() + "@dgomesdev.com");
+    }
+
+    @Test
+    @DisplayName("Should create, read, list, patch and delete a task")
+    void givenLoggedUser_whenManagingTask_thenFollowServletContract() {
+        //GIVEN
+        var created = webTestClient.post().uri("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new TaskRequestDto("Title", "Description", Priority.HIGH, Status.TO_BE_DONE))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody(TaskResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(created);
+
+        //WHEN
+        var found = webTestClient.get().uri("/tasks/{taskId}", created.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        var page = webTestClient.get().uri("/tasks?priority=HIGH")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskPageResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        webTestClient.patch().uri("/tasks/{taskId}", created.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header("Prefer", "return=minimal")
+                .contentType(MediaType.valueOf("application/merge-patch+json"))
+                .bodyValue(Map.of("status", "DONE"))
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectHeader().exists(HttpHeaders.ETAG);
+        var patched = webTestClient.get().uri("/tasks/{taskId}", created.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectBody(TaskResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        //THEN
+        assertNotNull(found);
+        assertEquals("Title", found.title());
+        assertNotNull(page);
+        assertEquals(1, page.tasks().size());
+        assertNull(page.nextCursor());
+        assertNotNull(patched);
+        assertEquals(Status.DONE, patched.status());
+        assertEquals("Title", patched.title());
+
+        webTestClient.delete().uri("/tasks/{taskId}", created.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.taskId").isEqualTo(created.taskId().toString())
+                .jsonPath("$.version").isEqualTo(1);
+        webTestClient.get().uri("/tasks/{taskId}", created.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should keep the user's task counters in step with creates, patches and deletes")
+    void givenTaskWrites_whenCounting_thenCountersMatchTasks() {
+        //GIVEN
+        var email = "counted" + UUID.randomUUID() + "@dgomesdev.com";
+        var countedToken = register(email);
+        var kept = createTask(countedToken, Priority.HIGH);
+        var deleted = createTask(countedToken, Priority.LOW);
+
+        //WHEN
+        webTestClient.patch().uri("/tasks/{taskId}", kept.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + countedToken)
+                .contentType(MediaType.valueOf("application/merge-patch+json"))
+                .bodyValue(Map.of("status", "DONE"))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri("/tasks/{taskId}", deleted.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + countedToken)
+                .exchange()
+                .expectStatus().isOk();
+
+        //THEN
+        var counts = databaseClient.sql("""
+                        SELECT s.status, s.priority, s.task_count FROM tb_task_stats s
+                        JOIN tb_user u ON u.id = s.user_id
+                        WHERE u.email = :email AND s.task_count <> 0
+                        """)
+                .bind("email", email)
+                .map(row -> ((Number) row.get("status")).intValue() + "/" + ((Number) row.get("priority")).intValue()
+                        + "=" + ((Number) row.get("task_count")).longValue())
+                .all()
+                .collectList()
+                .block();
+        assertEquals(List.of(Status.DONE.ordinal() + "/" + Priority.HIGH.ordinal() + "=1"), counts);
+    }
+
+    @Test
+    @DisplayName("Should reject another user's task with 401")
+    void givenForeignTask_whenReading_thenUnauthorized() {
+        //GIVEN
+        var otherToken = register("other" + UUID.randomUUID() + "@dgomesdev.com");
+        var created = webTestClient.post().uri("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken)
+                .bodyValue(new TaskRequestDto("Title", null, null, null))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(created);
+
+        //WHEN
+        var response = webTestClient.get().uri("/tasks/{taskId}", created.taskId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        //THEN
+        response.expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Should require a token")
+    void givenNoToken_whenListingTasks_thenUnauthorized() {
+        //WHEN
+        var response = webTestClient.get().uri("/tasks").exchange();
+
+        //THEN
+        response.expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Should only serve health on the public port without the ADMIN authority")
+    void givenPublicPort_whenScrapingMetrics_thenRequireAdmin() {
+        //WHEN
+        var health = webTestClient.get().uri("/actuator/health").exchange();
+        var anonymous = webTestClient.get().uri("/actuator/prometheus").exchange();
+        var user = webTestClient.get().uri("/actuator/prometheus")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+
+        //THEN
+        health.expectStatus().isOk();
+        anonymous.expectStatus().isUnauthorized();
+        user.expectStatus().isForbidden();
+    }
+
+    private TaskResponseDto createTask(String token, Priority priority) {
+        var task = webTestClient.post().uri("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new TaskRequestDto("Title", null, priority, Status.TO_BE_DONE))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(task);
+        return task;
+    }
+
+    private String register(String email) {
+        webTestClient.post().uri("/register")
+                .bodyValue(new UserRequestDto("username", email, "password"))
+                .exchange()
+                .expectStatus().isCreated();
+        var user = webTestClient.post().uri("/login")
+                .bodyValue(new UserRequestDto(null, email, "password"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(user);
+        return user.token();
+    }
+}
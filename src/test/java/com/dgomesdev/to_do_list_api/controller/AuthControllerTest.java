@@ -3,8 +3,8 @@ package com.dgomesdev.to_do_list_api.controller;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
 import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
 import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
-import com.dgomesdev.to_do_list_api.service.interfaces.EmailService;
 import com.dgomesdev.to_do_list_api.service.interfaces.RecoverPasswordService;
+import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
 import com.dgomesdev.to_do_list_api.service.interfaces.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +20,8 @@ import org.springframework.security.core.Authentication;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,10 +37,10 @@ public class AuthControllerTest {
     private RecoverPasswordService recoverPasswordService;
 
     @Mock
-    private EmailService emailService;
+    private AuthenticationManager authenticationManager;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private TokenService tokenService;
 
     @Mock
     Authentication mockAuthentication;
@@ -86,6 +88,7 @@ public class AuthControllerTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(mockAuthentication);
         when(mockUserRequestDto.email()).thenReturn("");
         when(mockAuthentication.getPrincipal()).thenReturn(mockUserModel);
+        when(tokenService.generateToken(mockUserModel)).thenReturn("token");
 
         //WHEN
         ResponseEntity<?> response = authController.login(mockUserRequestDto);
@@ -94,6 +97,7 @@ public class AuthControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         UserResponseDto responseBody = (UserResponseDto) response.getBody();
         assertNotNull(responseBody);
+        verify(mockUserModel).setToken("token");
     }
 
     @Test
@@ -108,5 +112,6 @@ public class AuthControllerTest {
 
         //THEN
         assertEquals("Cannot invoke \"org.springframework.security.core.Authentication.getPrincipal()\" because \"authentication\" is null", exception.getMessage());
+        verifyNoInteractions(tokenService);
     }
 }
@@ -1,10 +1,32 @@
 package com.dgomesdev.to_do_list_api.controller;
 
+import com.dgomesdev.to_do_list_api.domain.exception.PreconditionFailedException;
+import com.dgomesdev.to_do_list_api.domain.exception.VersionConflictException;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
 import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationOutcome;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationResult;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationType;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPageModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskVersion;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import com.dgomesdev.to_do_list_api.dto.request.TaskBatchRequestDto;
+import com.dgomesdev.to_do_list_api.dto.request.TaskOperationRequestDto;
+import com.dgomesdev.to_do_list_api.dto.request.TaskPatchRequestDto;
 import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import com.dgomesdev.to_do_list_api.dto.response.DeletedTaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskBatchResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskPageResponseDto;
 import com.dgomesdev.to_do_list_api.dto.response.TaskResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskSearchResponseDto;
+import com.dgomesdev.to_do_list_api.dto.response.TaskStatsResponseDto;
 import com.dgomesdev.to_do_list_api.service.interfaces.TaskService;
+import com.dgomesdev.to_do_list_api.service.interfaces.TaskStatsService;
 import com.dgomesdev.to_do_list_api.service.interfaces.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +34,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +62,9 @@ class TaskControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TaskStatsService taskStatsService;
+
     @Mock
     private TaskRequestDto mockTaskRequestDto;
 
@@ -48,6 +79,8 @@ class TaskControllerTest {
 
     private final UUID taskId = UUID.randomUUID();
 
+    private final UUID userId = UUID.randomUUID();
+
     @Test
     @DisplayName("Should save task successfully")
     void givenValidTask_whenSavingTask_thenReturnCreated() {
@@ -56,13 +89,31 @@ class TaskControllerTest {
         when(userService.findUserById(any())).thenReturn(mockUserModel);
 
         //WHEN
-        ResponseEntity<?> response = taskController.saveTask(mockTaskRequestDto);
+        ResponseEntity<?> response = taskController.saveTask(mockTaskRequestDto, "user", null);
 
         //THEN
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
     }
 
+    @Test
+    @DisplayName("Should return only the saved task by default")
+    void givenValidTask_whenSavingTaskWithoutUserView_thenReturnTaskOnly() {
+        //GIVEN
+        when(taskService.saveTask(any(TaskModel.class))).thenReturn(mockTaskModel);
+        when(mockTaskModel.getTaskId()).thenReturn(taskId);
+
+        //WHEN
+        ResponseEntity<?> response = taskController.saveTask(mockTaskRequestDto, null, null);
+
+        //THEN
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        TaskResponseDto responseBody = (TaskResponseDto) response.getBody();
+        assertNotNull(responseBody);
+        assertEquals(taskId, responseBody.taskId());
+        verify(userService, never()).findUserById(any());
+    }
+
     @Test
     @DisplayName("Should throw exception when the user tries to save an invalid task")
     void givenInvalidTask_whenSavingTask_thenThrowException() {
@@ -70,7 +121,7 @@ class TaskControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () -> taskController.saveTask(mockTaskRequestDto));
+        exception = assertThrows(NullPointerException.class, () -> taskController.saveTask(mockTaskRequestDto, "user", null));
 
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.domain.model.TaskModel.getUserId()\" because \"savedTask\" is null", exception.getMessage());
@@ -84,13 +135,101 @@ class TaskControllerTest {
         when(taskService.findTaskById(taskId)).thenReturn(mockTaskModel);
 
         //WHEN
-        ResponseEntity<?> response = taskController.findTaskById(taskId);
+        ResponseEntity<?> response = taskController.findTaskById(taskId, new HttpHeaders());
 
         //THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
     }
 
+    @Test
+    @DisplayName("Should answer 304 from the task version when the ETag matches")
+    void givenMatchingIfNoneMatch_whenFindingTaskById_thenReturnNotModified() {
+        //GIVEN
+        var version = new TaskVersion(UUID.randomUUID(), 3L, new Date());
+        var requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(EntityTags.of(version));
+        when(taskService.findTaskVersion(taskId)).thenReturn(version);
+
+        //WHEN
+        ResponseEntity<?> response = taskController.findTaskById(taskId, requestHeaders);
+
+        //THEN
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(taskService, never()).findTaskById(any());
+    }
+
+    @Test
+    @DisplayName("Should send the task when the ETag no longer matches")
+    void givenStaleIfNoneMatch_whenFindingTaskById_thenReturnTask() {
+        //GIVEN
+        var requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(EntityTags.of(2L));
+        when(taskService.findTaskVersion(taskId)).thenReturn(new TaskVersion(UUID.randomUUID(), 3L, new Date()));
+        when(taskService.findTaskById(taskId)).thenReturn(mockTaskModel);
+
+        //WHEN
+        ResponseEntity<?> response = taskController.findTaskById(taskId, requestHeaders);
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should pass the If-Match version to the delete and answer a conflict with 412")
+    void givenStaleIfMatch_whenDeletingTask_thenThrowPreconditionFailed() {
+        //GIVEN
+        var conflict = new VersionConflictException(mockTaskModel);
+        when(taskService.deleteTask(taskId, 2L)).thenThrow(conflict);
+
+        //WHEN
+        VersionConflictException exception = assertThrows(
+                VersionConflictException.class,
+                () -> taskController.deleteTask(taskId, null, null, EntityTags.of(2L))
+        );
+
+        //THEN
+        assertTrue(exception.isPreconditionFailed());
+        verify(taskService, never()).findTaskVersion(any());
+    }
+
+    @Test
+    @DisplayName("Should check a weak If-Match up front and never write")
+    void givenWeakIfMatch_whenDeletingTask_thenThrowException() {
+        //GIVEN
+        when(taskService.findTaskVersion(taskId)).thenReturn(new TaskVersion(UUID.randomUUID(), 3L, new Date()));
+
+        //WHEN
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> taskController.deleteTask(taskId, null, null, "W/" + EntityTags.of(3L))
+        );
+
+        //THEN
+        verify(taskService, never()).deleteTask(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer a stale version in the patch body with 409")
+    void givenStaleBodyVersion_whenPatchingTask_thenThrowConflict() {
+        //GIVEN
+        var request = new TaskPatchRequestDto(null, null, null, Status.DONE, 2L);
+        var conflict = new VersionConflictException(mockTaskModel);
+        when(taskService.patchTask(eq(taskId), any(TaskPatch.class), eq(2L))).thenThrow(conflict);
+
+        //WHEN
+        VersionConflictException exception = assertThrows(
+                VersionConflictException.class,
+                () -> taskController.patchTask(taskId, request, null, null)
+        );
+
+        //THEN
+        assertFalse(exception.isPreconditionFailed());
+    }
+
     @Test
     @DisplayName("Should throw an exception when trying to find a task with a null id")
     void givenNullId_whenFindingTaskById_thenThrowException() {
@@ -98,25 +237,92 @@ class TaskControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () ->taskController.findTaskById(null));
+        exception = assertThrows(NullPointerException.class, () ->taskController.findTaskById(null, new HttpHeaders()));
 
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.domain.model.TaskModel.getTaskId()\" because \"task\" is null", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should find a page of tasks successfully")
+    void givenFilters_whenFindingTasks_thenReturnResponseOk() {
+        //GIVEN
+        when(taskService.findTasks(Status.DONE, null, null, 50)).thenReturn(new TaskPageModel(List.of(mockTaskModel), "cursor"));
+
+        //WHEN
+        ResponseEntity<?> response = taskController.findTasks(Status.DONE, null, null, 50);
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        TaskPageResponseDto responseBody = (TaskPageResponseDto) response.getBody();
+        assertNotNull(responseBody);
+        assertEquals(1, responseBody.tasks().size());
+        assertEquals("cursor", responseBody.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should search tasks successfully")
+    void givenQuery_whenSearchingTasks_thenReturnResponseOk() {
+        //GIVEN
+        when(taskService.searchTasks("groceries", 20)).thenReturn(List.of(mockTaskModel));
+
+        //WHEN
+        ResponseEntity<TaskSearchResponseDto> response = taskController.searchTasks("groceries", 20);
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().tasks().size());
+    }
+
+    @Test
+    @DisplayName("Should return the task stats successfully")
+    void givenCounters_whenFindingStats_thenReturnResponseOk() {
+        //GIVEN
+        when(taskStatsService.findStats()).thenReturn(TaskStatsModel.fromCounts(List.of(new TaskStatsCount(Status.DONE, Priority.HIGH, 3L))));
+
+        //WHEN
+        ResponseEntity<TaskStatsResponseDto> response = taskController.findStats();
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(3, response.getBody().total());
+        assertEquals(3, response.getBody().byStatus().get(Status.DONE));
+    }
+
     @Test
     @DisplayName("Should update task successfully")
     void givenValidTask_whenUpdatingTask_theReturnResponseOk() {
         //GIVEN
-        when(taskService.updateTask(eq(taskId), any(TaskModel.class))).thenReturn(mockTaskModel);
+        when(taskService.updateTask(eq(taskId), any(TaskModel.class), isNull())).thenReturn(mockTaskModel);
         when(userService.findUserById(any())).thenReturn(mockUserModel);
 
         //WHEN
-        ResponseEntity<?> response = taskController.updateTask(taskId, mockTaskRequestDto);
+        ResponseEntity<?> response = taskController.updateTask(taskId, mockTaskRequestDto, null, TaskController.USER_MEDIA_TYPE, null);
 
         //THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
+        // The user's tag, not the task's
+        assertEquals(EntityTags.of(UserVersion.of(mockUserModel)), response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should return only the updated task with its ETag by default")
+    void givenValidTask_whenUpdatingTaskWithoutUserView_thenReturnTaskWithETag() {
+        //GIVEN
+        when(taskService.updateTask(eq(taskId), any(TaskModel.class), isNull())).thenReturn(mockTaskModel);
+        when(mockTaskModel.getVersion()).thenReturn(7L);
+
+        //WHEN
+        ResponseEntity<?> response = taskController.updateTask(taskId, mockTaskRequestDto, null, null, null);
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertInstanceOf(TaskResponseDto.class, response.getBody());
+        assertEquals("\"7\"", response.getHeaders().getETag());
+        verify(userService, never()).findUserById(any());
     }
 
     @Test
@@ -126,7 +332,7 @@ class TaskControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () ->taskController.updateTask(null, mockTaskRequestDto));
+        exception = assertThrows(NullPointerException.class, () ->taskController.updateTask(null, mockTaskRequestDto, "user", null, null));
 
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.domain.model.TaskModel.getUserId()\" because \"updatedTask\" is null", exception.getMessage());
@@ -139,7 +345,7 @@ class TaskControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () ->taskController.updateTask(taskId, null));
+        exception = assertThrows(NullPointerException.class, () ->taskController.updateTask(taskId, null, null, null, null));
 
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto.title()\" because \"taskRequestDto\" is null", exception.getMessage());
@@ -150,14 +356,34 @@ class TaskControllerTest {
     void givenTaskId_whenDeletingTask_thenReturnResponseNoContent() {
         //GIVEN
         ResponseEntity<?> response;
-        when(userService.findUserById(any())).thenReturn(mockUserModel);
+        when(taskService.deleteTask(taskId, null)).thenReturn(new TaskVersion(userId, 2L, null));
+        when(userService.findUserById(userId)).thenReturn(mockUserModel);
 
         //WHEN
-        response = taskController.deleteTask(taskId);
+        response = taskController.deleteTask(taskId, "user", null, null);
 
         //THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
+        assertEquals(EntityTags.of(UserVersion.of(mockUserModel)), response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should return only the deleted task id and version by default")
+    void givenTaskId_whenDeletingTaskWithoutUserView_thenReturnDeletedId() {
+        //GIVEN
+        when(taskService.deleteTask(taskId, null)).thenReturn(new TaskVersion(userId, 2L, null));
+
+        //WHEN
+        ResponseEntity<?> response = taskController.deleteTask(taskId, null, null, null);
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        DeletedTaskResponseDto responseBody = (DeletedTaskResponseDto) response.getBody();
+        assertNotNull(responseBody);
+        assertEquals(taskId, responseBody.taskId());
+        assertEquals(2L, responseBody.version());
+        verify(userService, never()).findUserById(any());
     }
 
     @Test
@@ -167,9 +393,31 @@ class TaskControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () -> taskController.deleteTask(null));
+        exception = assertThrows(NullPointerException.class, () -> taskController.deleteTask(null, null, null, null));
 
         //THEN
         assertEquals("taskId cannot be null", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return one result per batch operation")
+    void givenBatch_whenApplyingBatch_thenReturnResults() {
+        //GIVEN
+        var request = new TaskBatchRequestDto(List.of(
+                new TaskOperationRequestDto(TaskOperationType.DELETE, taskId, null, null, null, null)
+        ));
+        when(taskService.applyBatch(any())).thenReturn(List.of(
+                new TaskOperationResult(0, TaskOperationType.DELETE, taskId, TaskOperationOutcome.NOT_FOUND, null, "Task not found")
+        ));
+
+        //WHEN
+        ResponseEntity<TaskBatchResponseDto> response = taskController.applyBatch(request);
+
+        //THEN
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        var result = response.getBody().results().get(0);
+        assertEquals(404, result.status());
+        assertEquals(taskId, result.taskId());
+        assertNull(result.task());
+    }
+}
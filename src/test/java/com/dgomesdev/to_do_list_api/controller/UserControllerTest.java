@@ -1,6 +1,7 @@
 package com.dgomesdev.to_do_list_api.controller;
 
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
 import com.dgomesdev.to_do_list_api.dto.request.UserRequestDto;
 import com.dgomesdev.to_do_list_api.dto.response.MessageDto;
 import com.dgomesdev.to_do_list_api.dto.response.UserResponseDto;
@@ -11,13 +12,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Date;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +54,7 @@ class UserControllerTest {
         when(userService.findUserById(userId)).thenReturn(mockUserModel);
 
         //WHEN
-        ResponseEntity<?> response = userController.findUserById(userId);
+        ResponseEntity<?> response = userController.findUserById(userId, new HttpHeaders());
 
         //THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -58,6 +65,24 @@ class UserControllerTest {
         assertEquals(mockUserResponseDto.tasks(), responseBody.tasks());
     }
 
+    @Test
+    @DisplayName("Should answer 304 from the user version when the ETag matches")
+    void givenMatchingIfNoneMatch_whenFindingUserById_thenReturnNotModified() {
+        //GIVEN
+        var version = new UserVersion(4L, new Date(), 3L);
+        var requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(EntityTags.of(version));
+        when(userService.findUserVersion(userId)).thenReturn(version);
+
+        //WHEN
+        ResponseEntity<?> response = userController.findUserById(userId, requestHeaders);
+
+        //THEN
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(userService, never()).findUserById(any());
+    }
+
     @Test
     @DisplayName("Should throw an exception when the user passes a null id")
     void givenNullId_whenFindingUserById_thenThrowException() {
@@ -65,7 +90,7 @@ class UserControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () -> userController.findUserById(null));
+        exception = assertThrows(NullPointerException.class, () -> userController.findUserById(null, new HttpHeaders()));
 
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.domain.model.UserModel.getUserId()\" because \"user\" is null", exception.getMessage());
@@ -78,10 +103,10 @@ class UserControllerTest {
         when(mockUserRequestDto.username()).thenReturn("username");
         when(mockUserRequestDto.password()).thenReturn("");
         when(mockUserRequestDto.email()).thenReturn("");
-        when(userService.updateUser(any(UserModel.class))).thenReturn(mockUserModel);
+        when(userService.updateUser(any(UserModel.class), isNull())).thenReturn(mockUserModel);
 
         //WHEN
-        ResponseEntity<?> response = userController.updateUser(userId, mockUserRequestDto);
+        ResponseEntity<?> response = userController.updateUser(userId, mockUserRequestDto, null);
 
         //THEN
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -100,7 +125,7 @@ class UserControllerTest {
         when(mockUserRequestDto.email()).thenReturn("");
 
         //WHEN
-        exception = assertThrows(IllegalArgumentException.class, () -> userController.updateUser(null, mockUserRequestDto));
+        exception = assertThrows(IllegalArgumentException.class, () -> userController.updateUser(null, mockUserRequestDto, null));
 
         //THEN
         assertEquals("Cannot pass null or empty values to constructor", exception.getMessage());
@@ -113,7 +138,7 @@ class UserControllerTest {
         ResponseEntity<?> response;
 
         //WHEN
-        response = userController.deleteUser(userId);
+        response = userController.deleteUser(userId, null);
 
         //THEN
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
@@ -122,6 +147,20 @@ class UserControllerTest {
         assertEquals("User deleted successfully", responseBody.message());
     }
 
+    @Test
+    @DisplayName("Should hand the version of a strong If-Match to the delete")
+    void givenIfMatch_whenDeletingUser_thenPassExpectedVersion() {
+        //GIVEN
+        var ifMatch = EntityTags.of(new UserVersion(4L, new Date(), 3L));
+
+        //WHEN
+        userController.deleteUser(userId, ifMatch);
+
+        //THEN
+        verify(userService, times(1)).deleteUser(userId, 4L);
+        verify(userService, never()).findUserVersion(any());
+    }
+
     @Test
     @DisplayName("Should throw an exception when user passes null id")
      void givenNullId_whenDeletingUser_thenThrowException() {
@@ -129,7 +168,7 @@ class UserControllerTest {
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () -> userController.deleteUser(null));
+        exception = assertThrows(NullPointerException.class, () -> userController.deleteUser(null, null));
 
         //THEN
         assertEquals("userId cannot be null", exception.getMessage());
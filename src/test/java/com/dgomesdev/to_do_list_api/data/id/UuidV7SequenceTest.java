@@ -0,0 +1,84 @@
+package com.dgomesdev.to_do_list_api.data.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7SequenceTest {
+
+    @Test
+    @DisplayName("Should generate version 7 ids carrying the current time")
+    void givenGenerator_whenGenerating_thenReturnVersion7WithTimestamp() {
+        //GIVEN
+        long before = System.currentTimeMillis();
+
+        //WHEN
+        UUID id = UuidV7Sequence.next();
+
+        //THEN
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing ids even within one millisecond")
+    void givenBurst_whenGenerating_thenIdsAreStrictlyIncreasing() {
+        //GIVEN
+        UUID previous = UuidV7Sequence.next();
+
+        for (int i = 0; i < 100_000; i++) {
+            //WHEN
+            UUID next = UuidV7Sequence.next();
+
+            //THEN
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same id to concurrent threads")
+    void givenConcurrentThreads_whenGenerating_thenIdsAreUnique() throws InterruptedException {
+        //GIVEN
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //WHEN
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) ids.add(UuidV7Sequence.next());
+            });
+        }
+        executor.shutdown();
+
+        //THEN
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(80_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Should carry counter overflow into the timestamp instead of going backwards")
+    void givenCounterOverflow_whenGenerating_thenAdvanceTimestamp() {
+        //GIVEN
+        long now = System.currentTimeMillis();
+        long first = UuidV7Sequence.nextTimestampAndCounter(now);
+
+        //WHEN
+        long last = first;
+        for (int i = 0; i < 5_000; i++) last = UuidV7Sequence.nextTimestampAndCounter(now);
+
+        //THEN
+        assertEquals(first + 5_000, last);
+        assertTrue(last >>> 12 > now);
+    }
+}
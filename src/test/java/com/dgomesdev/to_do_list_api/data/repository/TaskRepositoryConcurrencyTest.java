@@ -0,0 +1,134 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writers race read-increment-write cycles on one task through the version compare-and-set, each in its own
+ * committed transaction, as concurrent requests would.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskRepositoryConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int INCREMENTS_PER_WRITER = 25;
+    private static final int MAX_ATTEMPTS = 10_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    private UUID userId;
+
+    private UUID taskId;
+
+    @BeforeEach
+    void setup() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            var user = userRepository.save(new UserEntity(
+                    "writer",
+                    "password",
+                    "concurrency@dgomesdev.com",
+                    List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+            ));
+            var task = new TaskModel.Builder()
+                    .fromRequest(new TaskRequestDto("Counter", "0", Priority.LOW, Status.TO_BE_DONE))
+                    .build();
+            taskId = taskRepository.save(new TaskEntity(task, user)).getId();
+            userId = user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    @Test
+    @DisplayName("Should keep every increment when writers race on the same task version")
+    void givenConcurrentWriters_whenPatchingWithExpectedVersion_thenNoUpdateIsLost() throws Exception {
+        //GIVEN
+        var executor = Executors.newFixedThreadPool(WRITERS);
+        var start = new CountDownLatch(1);
+        var writers = new ArrayList<Future<Void>>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int increment = 0; increment < INCREMENTS_PER_WRITER; increment++) {
+                    int attempts = 0;
+                    while (!tryIncrement()) {
+                        if (++attempts == MAX_ATTEMPTS) throw new IllegalStateException("Writer starved");
+                    }
+                }
+                return null;
+            }));
+        }
+
+        //WHEN
+        start.countDown();
+        for (var writer : writers) writer.get(2, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        //THEN
+        var task = transaction.execute(status -> taskRepository.findById(taskId).orElseThrow());
+        assertNotNull(task);
+        assertEquals(WRITERS * INCREMENTS_PER_WRITER, Long.parseLong(task.getDescription()));
+        assertEquals(WRITERS * INCREMENTS_PER_WRITER, task.getVersion());
+    }
+
+    private boolean tryIncrement() {
+        try {
+            var task = transaction.execute(status -> taskRepository.findById(taskId).orElseThrow());
+            assertNotNull(task);
+            var next = String.valueOf(Long.parseLong(task.getDescription()) + 1);
+            Integer updated = transaction.execute(status -> taskRepository.patchOwned(
+                    taskId,
+                    userId,
+                    new TaskPatch(null, next, null, null),
+                    new Date(),
+                    task.getVersion()
+            ));
+            return updated != null && updated == 1;
+        } catch (DataAccessException e) {
+            // A database that rejects a write racing a concurrent update rather than waiting for it is a conflict too
+            return false;
+        }
+    }
+}
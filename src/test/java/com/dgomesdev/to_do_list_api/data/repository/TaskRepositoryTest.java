@@ -0,0 +1,186 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.TaskStatsEntity;
+import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsKey;
+import com.dgomesdev.to_do_list_api.domain.model.TaskWrite;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatsRepository taskStatsRepository;
+
+    private Statistics statistics;
+
+    private UUID userId;
+
+    private UUID taskId;
+
+    @BeforeEach
+    void setup() {
+        var user = entityManager.persist(new UserEntity(
+                "username",
+                "password",
+                "user@dgomesdev.com",
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+        ));
+        var task = new TaskModel.Builder()
+                .fromRequest(new TaskRequestDto("Title", "Description", Priority.LOW, Status.TO_BE_DONE))
+                .build();
+        taskId = entityManager.persist(new TaskEntity(task, user)).getId();
+        userId = user.getId();
+        for (var counter : TaskStatsEntity.emptyFor(userId)) {
+            if (counter.getStatus() == Status.TO_BE_DONE && counter.getPriority() == Priority.LOW) counter.setTaskCount(1);
+            entityManager.persist(counter);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should write only the supplied columns in one statement")
+    void givenOwnedTask_whenPatching_thenUpdateSuppliedColumnsOnly() {
+        //WHEN
+        int updated = taskRepository.patchOwned(taskId, userId, new TaskPatch(null, null, null, Status.DONE), new Date(), null);
+
+        //THEN
+        assertEquals(1, updated);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        var task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(Status.DONE, task.getStatus());
+        assertEquals("Title", task.getTitle());
+        assertEquals(Priority.LOW, task.getPriority());
+    }
+
+    @Test
+    @DisplayName("Should not touch a task owned by another user")
+    void givenTaskOfAnotherUser_whenPatchingOrDeleting_thenAffectNoRow() {
+        //WHEN
+        int updated = taskRepository.patchOwned(taskId, UUID.randomUUID(), new TaskPatch("Hijacked", null, null, null), new Date(), null);
+        var moved = taskRepository.patchOwnedCounted(taskId, UUID.randomUUID(), new TaskPatch(null, null, null, Status.DONE), new Date(), null);
+        var deleted = taskRepository.deleteOwned(taskId, UUID.randomUUID(), null);
+
+        //THEN
+        assertEquals(0, updated);
+        assertTrue(moved.isEmpty());
+        assertTrue(deleted.isEmpty());
+        assertEquals("Title", taskRepository.findById(taskId).orElseThrow().getTitle());
+        assertTrue(taskStatsRepository.findCountsByUserId(userId).contains(new TaskStatsCount(Status.TO_BE_DONE, Priority.LOW, 1L)));
+    }
+
+    @Test
+    @DisplayName("Should delete an owned task and take it out of its counter")
+    void givenOwnedTask_whenDeleting_thenRemoveRowAndUncountIt() {
+        //WHEN
+        var deleted = taskRepository.deleteOwned(taskId, userId, null);
+
+        //THEN
+        assertEquals(new TaskWrite(new TaskStatsKey(Status.TO_BE_DONE, Priority.LOW), 0L), deleted.orElseThrow());
+        // H2 moves the counter with a second statement, Postgres inside the DELETE
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertFalse(taskRepository.existsById(taskId));
+        assertEquals(0, taskStatsRepository.findCountsByUserId(userId).stream().mapToLong(TaskStatsCount::count).sum());
+    }
+
+    @Test
+    @DisplayName("Should bump the version on a patch and match no row on a stale one")
+    void givenExpectedVersion_whenPatching_thenCompareAndSet() {
+        //WHEN
+        int first = taskRepository.patchOwned(taskId, userId, new TaskPatch(null, null, null, Status.DONE), new Date(), 0L);
+        int stale = taskRepository.patchOwned(taskId, userId, new TaskPatch("Stale", null, null, null), new Date(), 0L);
+        var staleDelete = taskRepository.deleteOwned(taskId, userId, 0L);
+
+        //THEN
+        assertEquals(1, first);
+        assertEquals(0, stale);
+        assertTrue(staleDelete.isEmpty());
+        var task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(1L, task.getVersion());
+        assertEquals("Title", task.getTitle());
+    }
+
+    @Test
+    @DisplayName("Should return only the tasks changed after the cursor and up to the upper bound")
+    void givenPatchedTask_whenFindingChanges_thenReturnItBetweenCursorAndBound() {
+        //GIVEN
+        var updatedAt = new Date();
+        taskRepository.patchOwned(taskId, userId, new TaskPatch(null, null, null, Status.DONE), updatedAt, null);
+        var before = new Date(updatedAt.getTime() - 1000);
+        var after = new Date(updatedAt.getTime() + 1000);
+        var minId = new UUID(0L, 0L);
+
+        //WHEN
+        var changed = taskRepository.findChangesByUserId(userId, before, minId, after, PageRequest.ofSize(10));
+        var settling = taskRepository.findChangesByUserId(userId, before, minId, before, PageRequest.ofSize(10));
+        var seen = taskRepository.findChangesByUserId(userId, updatedAt, taskId, after, PageRequest.ofSize(10));
+
+        //THEN
+        assertEquals(List.of(taskId), changed.stream().map(TaskEntity::getId).toList());
+        assertTrue(settling.isEmpty());
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move a patched task to its new counter and return the one it was in")
+    void givenOwnedTask_whenPatchingStatus_thenMoveItsCounter() {
+        //WHEN
+        var moved = taskRepository.patchOwnedCounted(taskId, userId, new TaskPatch(null, null, Priority.HIGH, Status.DONE), new Date(), 0L);
+        var stale = taskRepository.patchOwnedCounted(taskId, userId, new TaskPatch(null, null, null, Status.IN_PROGRESS), new Date(), 0L);
+
+        //THEN
+        assertEquals(new TaskWrite(new TaskStatsKey(Status.TO_BE_DONE, Priority.LOW), 1L), moved.orElseThrow());
+        assertTrue(stale.isEmpty());
+        var counts = taskStatsRepository.findCountsByUserId(userId);
+        assertTrue(counts.contains(new TaskStatsCount(Status.TO_BE_DONE, Priority.LOW, 0L)));
+        assertTrue(counts.contains(new TaskStatsCount(Status.DONE, Priority.HIGH, 1L)));
+        var task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(Status.DONE, task.getStatus());
+        assertEquals(Priority.HIGH, task.getPriority());
+    }
+
+    @Test
+    @DisplayName("Should count the user's tasks by status and priority")
+    void givenTasks_whenCounting_thenGroupByStatusAndPriority() {
+        //WHEN
+        var counts = taskRepository.countByUserId(userId);
+
+        //THEN
+        assertEquals(List.of(new TaskStatsCount(Status.TO_BE_DONE, Priority.LOW, 1L)), counts);
+    }
+}
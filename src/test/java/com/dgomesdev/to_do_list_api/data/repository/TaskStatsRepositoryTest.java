@@ -0,0 +1,65 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskStatsEntity;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskStatsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskStatsRepository taskStatsRepository;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        taskStatsRepository.saveAll(TaskStatsEntity.emptyFor(userId));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should move a counter in place and read all nine back")
+    void givenEmptyCounters_whenAdjusting_thenReadAdjustedCounts() {
+        //WHEN
+        int adjusted = taskStatsRepository.adjust(userId, Status.IN_PROGRESS, Priority.HIGH, 2);
+        int missing = taskStatsRepository.adjust(UUID.randomUUID(), Status.IN_PROGRESS, Priority.HIGH, 1);
+
+        //THEN
+        assertEquals(1, adjusted);
+        assertEquals(0, missing);
+        var counts = taskStatsRepository.findCountsByUserId(userId);
+        assertEquals(9, counts.size());
+        assertTrue(counts.contains(new TaskStatsCount(Status.IN_PROGRESS, Priority.HIGH, 2L)));
+        assertEquals(2, counts.stream().mapToLong(TaskStatsCount::count).sum());
+    }
+
+    @Test
+    @DisplayName("Should lock the counters in status and priority order")
+    void givenCounters_whenLocking_thenReturnThemOrdered() {
+        //WHEN
+        var counters = taskStatsRepository.lockAllByUserId(userId);
+
+        //THEN
+        assertEquals(9, counters.size());
+        assertEquals(Status.TO_BE_DONE, counters.get(0).getStatus());
+        assertEquals(Priority.LOW, counters.get(0).getPriority());
+        assertEquals(Status.DONE, counters.get(8).getStatus());
+        assertEquals(Priority.HIGH, counters.get(8).getPriority());
+    }
+}
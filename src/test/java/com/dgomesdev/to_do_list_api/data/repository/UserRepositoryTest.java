@@ -0,0 +1,151 @@
+package com.dgomesdev.to_do_list_api.data.repository;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.domain.model.UserVersion;
+import com.dgomesdev.to_do_list_api.dto.request.TaskRequestDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Statistics statistics;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setup() {
+        var user = entityManager.persist(new UserEntity(
+                "username",
+                "password",
+                "user@dgomesdev.com",
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER), UserAuthority.toGrantedAuthority(UserAuthority.ADMIN))
+        ));
+        for (int i = 0; i < 25; i++) {
+            var task = new TaskModel.Builder()
+                    .fromRequest(new TaskRequestDto("Task " + i, "Description", Priority.MEDIUM, Status.TO_BE_DONE))
+                    .build();
+            entityManager.persist(new TaskEntity(task, user));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        userId = user.getId();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load a user with authorities and tasks in two statements")
+    void givenUserWithTasks_whenLoadingUserModel_thenRunTwoStatements() {
+        //WHEN
+        var user = new UserModel.Builder()
+                .fromEntity(userRepository.findWithAuthoritiesById(userId).orElseThrow(), taskRepository.findAllByUserId(userId))
+                .build();
+
+        //THEN
+        assertEquals(25, user.getTasks().size());
+        assertTrue(user.getTasks().stream().allMatch(task -> userId.equals(task.getUserId())));
+        assertEquals(2, user.getAuthorities().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should load a user by e-mail with its authorities in one statement")
+    void givenUser_whenFindingByEmail_thenJoinAuthorities() {
+        //WHEN
+        var user = userRepository.findUserByEmail("user@dgomesdev.com").orElseThrow();
+
+        //THEN
+        assertEquals(2, user.getUserAuthorities().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should load only the login credentials in one statement")
+    void givenUserWithTasks_whenFindingCredentials_thenSkipTasks() {
+        //WHEN
+        var credentials = userRepository.findCredentialsByEmail("user@dgomesdev.com");
+
+        //THEN
+        assertEquals(2, credentials.size());
+        assertTrue(credentials.stream().allMatch(row -> userId.equals(row.userId()) && "password".equals(row.password())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should find a user by e-mail regardless of case")
+    void givenMixedCaseEmail_whenFindingByEmail_thenFindUser() {
+        //WHEN
+        var user = userRepository.findUserByEmail("User@DGomesDev.com");
+        var credentials = userRepository.findCredentialsByEmail("USER@dgomesdev.com");
+
+        //THEN
+        assertTrue(user.isPresent());
+        assertEquals(2, credentials.size());
+    }
+
+    @Test
+    @DisplayName("Should reject an e-mail that only differs in case from an existing one")
+    void givenExistingEmail_whenSavingDifferentCase_thenThrowDataIntegrityViolation() {
+        //GIVEN
+        var duplicate = new UserEntity(
+                "other",
+                "password",
+                "USER@dgomesdev.com",
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+        );
+
+        //WHEN & THEN
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository.saveAndFlush(duplicate));
+    }
+
+    @Test
+    @DisplayName("Should compute the user version in one statement, equal to the one of the loaded user")
+    void givenUserWithTasks_whenFindingVersion_thenMatchLoadedUser() {
+        //WHEN
+        var version = userRepository.findVersionById(userId).orElseThrow();
+
+        //THEN
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(25L, version.taskCount());
+        var user = new UserModel.Builder()
+                .fromEntity(userRepository.findWithAuthoritiesById(userId).orElseThrow(), taskRepository.findAllByUserId(userId))
+                .build();
+        var loaded = UserVersion.of(user);
+        assertEquals(loaded.version(), version.version());
+        assertEquals(loaded.tasksUpdatedAt().getTime(), version.tasksUpdatedAt().getTime());
+        assertEquals(loaded.taskCount(), version.taskCount());
+    }
+}
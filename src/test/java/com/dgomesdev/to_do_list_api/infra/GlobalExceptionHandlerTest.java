@@ -0,0 +1,112 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.domain.exception.InvalidRequestException;
+import com.dgomesdev.to_do_list_api.domain.exception.RateLimitExceededException;
+import com.dgomesdev.to_do_list_api.domain.exception.TaskNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should answer a missing task with a shared problem body that does not echo the id")
+    void givenTaskNotFound_whenHandling_thenReturnCachedProblemDetail() {
+        //GIVEN
+        var taskId = UUID.randomUUID();
+
+        //WHEN
+        var first = exceptionHandler.handleGeneralException(new TaskNotFoundException(taskId));
+        var second = exceptionHandler.handleGeneralException(new TaskNotFoundException(UUID.randomUUID()));
+
+        //THEN
+        assertEquals(HttpStatus.NOT_FOUND, first.getStatusCode());
+        assertEquals(MediaType.APPLICATION_PROBLEM_JSON, first.getHeaders().getContentType());
+        var body = new String(first.getBody(), StandardCharsets.UTF_8);
+        assertTrue(body.contains("\"status\":404"));
+        assertTrue(body.contains("\"detail\":\"Task not found\""));
+        assertFalse(body.contains(taskId.toString()));
+        assertSame(first.getBody(), second.getBody());
+    }
+
+    @Test
+    @DisplayName("Should keep Retry-After on a rate limited request")
+    void givenRateLimited_whenHandling_thenReturnTooManyRequestsWithRetryAfter() {
+        //WHEN
+        var response = exceptionHandler.handleGeneralException(new RateLimitExceededException("login", 12));
+
+        //THEN
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("12", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should hide the message of an unexpected exception")
+    void givenUnexpectedException_whenHandling_thenReturnGenericInternalError() {
+        //WHEN
+        var response = exceptionHandler.handleGeneralException(new IllegalStateException("jdbc:postgresql://secret"));
+
+        //THEN
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertFalse(new String(response.getBody(), StandardCharsets.UTF_8).contains("secret"));
+    }
+
+    @Test
+    @DisplayName("Should explain an invalid request with the exception message")
+    void givenInvalidRequest_whenHandling_thenReturnBadRequestWithDetail() {
+        //WHEN
+        var response = exceptionHandler.handleGeneralException(new InvalidRequestException("Title must not be blank"));
+
+        //THEN
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(new String(response.getBody(), StandardCharsets.UTF_8).contains("Title must not be blank"));
+    }
+
+    @Test
+    @DisplayName("Should throw domain rejections without a stack trace but with a readable message")
+    void givenDomainRejection_whenCreated_thenSkipStackTrace() {
+        //GIVEN
+        var userId = UUID.randomUUID();
+
+        //WHEN
+        var exception = new UnauthorizedUserException(userId);
+
+        //THEN
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, new TaskNotFoundException(userId).getStackTrace().length);
+        assertTrue(exception.getMessage().contains(userId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should answer a library bad argument with 400 without echoing its input")
+    void givenNumberFormatException_whenHandling_thenReturnBadRequestWithoutInput() {
+        //WHEN
+        var response = exceptionHandler.handleGeneralException(new NumberFormatException("For input string: \"secret\""));
+
+        //THEN
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertFalse(new String(response.getBody(), StandardCharsets.UTF_8).contains("secret"));
+    }
+
+    @Test
+    @DisplayName("Should answer a subclass of a mapped exception like its superclass")
+    void givenDuplicateKey_whenHandling_thenReturnConflict() {
+        //WHEN
+        var response = exceptionHandler.handleGeneralException(new DuplicateKeyException("ux_user_email_lower"));
+
+        //THEN
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertFalse(new String(response.getBody(), StandardCharsets.UTF_8).contains("ux_user_email_lower"));
+    }
+}
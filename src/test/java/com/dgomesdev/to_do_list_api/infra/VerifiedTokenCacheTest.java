@@ -0,0 +1,67 @@
+package com.dgomesdev.to_do_list_api.infra;
+
+import com.dgomesdev.to_do_list_api.domain.model.AuthenticatedUser;
+import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+
+    private AuthenticatedUser userExpiringAt(Instant expiresAt) {
+        return new AuthenticatedUser(
+                UUID.randomUUID(),
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER)),
+                expiresAt
+        );
+    }
+
+    @Test
+    @DisplayName("Should return the cached user for a verified token")
+    void givenCachedToken_whenGettingUser_thenReturnCachedUser() {
+        //GIVEN
+        var user = userExpiringAt(Instant.now().plusSeconds(60));
+        verifiedTokenCache.put("token", user);
+
+        //WHEN
+        var response = verifiedTokenCache.get("token");
+
+        //THEN
+        assertSame(user, response);
+        assertNull(verifiedTokenCache.get("another-token"));
+    }
+
+    @Test
+    @DisplayName("Should not return a user whose token has expired")
+    void givenExpiredToken_whenGettingUser_thenReturnNull() {
+        //GIVEN
+        verifiedTokenCache.put("token", userExpiringAt(Instant.now().minusSeconds(1)));
+
+        //WHEN
+        var response = verifiedTokenCache.get("token");
+
+        //THEN
+        assertNull(response);
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("Should never grow beyond the configured size")
+    void givenMoreTokensThanMaxSize_whenCaching_thenStayBounded() {
+        //WHEN
+        for (int i = 0; i < 100; i++) {
+            verifiedTokenCache.put("token-" + i, userExpiringAt(Instant.now().plusSeconds(60)));
+        }
+
+        //THEN
+        assertTrue(verifiedTokenCache.size() <= 10);
+        assertNotNull(verifiedTokenCache.get("token-99"));
+    }
+}
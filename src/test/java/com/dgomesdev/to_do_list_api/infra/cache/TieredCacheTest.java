@@ -0,0 +1,129 @@
+package com.dgomesdev.to_do_list_api.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private TieredCache cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new TieredCache(
+                "tasks",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                redisTemplate,
+                Duration.ofMinutes(10),
+                new RemoteCacheGuard(Duration.ofMinutes(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Should serve a value from the local tier without calling Redis")
+    void givenLocalValue_whenGetting_thenSkipRedis() {
+        //GIVEN
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache.put("key", "value");
+
+        //WHEN
+        var value = cache.get("key", String.class);
+
+        //THEN
+        assertEquals("value", value);
+        verify(valueOperations, never()).get(any());
+        assertEquals(1, cache.getStats().localHits());
+    }
+
+    @Test
+    @DisplayName("Should copy a Redis hit into the local tier")
+    void givenRemoteValue_whenGetting_thenPopulateLocalTier() {
+        //GIVEN
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("v2::tasks::key")).thenReturn("value");
+
+        //WHEN
+        cache.get("key", String.class);
+        var value = cache.get("key", String.class);
+
+        //THEN
+        assertEquals("value", value);
+        verify(valueOperations, times(1)).get("v2::tasks::key");
+        assertEquals(1, cache.getStats().remoteHits());
+        assertEquals(1, cache.getStats().localHits());
+    }
+
+    @Test
+    @DisplayName("Should treat a Redis failure as a miss and stop calling Redis for a while")
+    void givenRedisDown_whenGetting_thenMissAndOpenCircuit() {
+        //GIVEN
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(any())).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        //WHEN
+        var first = cache.get("key", String.class);
+        var second = cache.get("other", String.class);
+
+        //THEN
+        assertNull(first);
+        assertNull(second);
+        verify(valueOperations, times(1)).get(any());
+        assertEquals(1, cache.getStats().remoteErrors());
+        assertEquals(2, cache.getStats().misses());
+    }
+
+    @Test
+    @DisplayName("Should treat an entry it cannot deserialize as a miss and keep calling Redis")
+    void givenIncompatibleEntry_whenGetting_thenMissAndKeepCircuitClosed() {
+        //GIVEN
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(any())).thenThrow(new SerializationException("local class incompatible"));
+
+        //WHEN
+        var first = cache.get("key", String.class);
+        var second = cache.get("other", String.class);
+
+        //THEN
+        assertNull(first);
+        assertNull(second);
+        verify(valueOperations, times(2)).get(any());
+        assertEquals(0, cache.getStats().remoteErrors());
+        assertEquals(2, cache.getStats().misses());
+    }
+
+    @Test
+    @DisplayName("Should evict a value from both tiers")
+    void givenCachedValue_whenEvicting_thenRemoveFromBothTiers() {
+        //GIVEN
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache.put("key", "value");
+
+        //WHEN
+        cache.evict("key");
+
+        //THEN
+        verify(redisTemplate, times(1)).delete("v2::tasks::key");
+        assertNull(cache.get("key", String.class));
+    }
+}
@@ -0,0 +1,54 @@
+package com.dgomesdev.to_do_list_api.infra.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestStatisticsFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestStatisticsFilter filter = new RequestStatisticsFilter(registry);
+
+    @Test
+    @DisplayName("Should record the Hibernate work of a request under its URI pattern")
+    void givenRequestRunningStatements_whenFiltered_thenRecordCountsPerEndpoint() throws Exception {
+        //GIVEN
+        var request = new MockHttpServletRequest("GET", "/tasks/42");
+
+        //WHEN
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tasks/{taskId}");
+            RequestStatistics.onStatement();
+            RequestStatistics.onStatement();
+            RequestStatistics.onEntityLoad();
+            RequestStatistics.onFlush();
+        });
+
+        //THEN
+        var statements = registry.get("api.request.statements").tags("method", "GET", "uri", "/tasks/{taskId}").summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        assertEquals(1, registry.get("api.request.entity.loads").tag("uri", "/tasks/{taskId}").summary().totalAmount());
+        assertEquals(1, registry.get("api.request.flushes").tag("uri", "/tasks/{taskId}").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should stop counting once the request is over")
+    void givenFinishedRequest_whenStatementRuns_thenDoNotCountIt() throws Exception {
+        //GIVEN
+        var request = new MockHttpServletRequest("POST", "/login");
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> RequestStatistics.onStatement());
+
+        //WHEN
+        RequestStatistics.onStatement();
+
+        //THEN
+        var statements = registry.get("api.request.statements").tags("method", "POST", "uri", "UNKNOWN").summary();
+        assertEquals(1, statements.totalAmount());
+    }
+}
@@ -0,0 +1,105 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.PayloadTooLargeException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private HandlerExceptionResolver exceptionResolver;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new RateLimitFilter(
+                List.of(new RateLimitRule("login", "/login", RateLimit.parse("10/1m"), RateLimit.parse("5/1m"))),
+                rateLimiter,
+                new ObjectMapper(),
+                exceptionResolver
+        );
+    }
+
+    @Test
+    @DisplayName("Should throttle an encoded spelling of a route on the decoded path")
+    void givenEncodedPath_whenFiltering_thenMatchDecodedRoute() throws Exception {
+        //GIVEN
+        var request = new MockHttpServletRequest("POST", "/%6Cogin");
+        request.setServletPath("/login");
+        request.setContent("{\"email\":\"User@dgomesdev.com\"}".getBytes());
+        when(rateLimiter.acquire(anyList())).thenReturn(0L);
+
+        //WHEN
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //THEN
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RateLimitKey>> keys = ArgumentCaptor.forClass(List.class);
+        verify(rateLimiter, times(1)).acquire(keys.capture());
+        assertEquals(2, keys.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Should hand the whole buffered body to a non-blocking reader")
+    void givenReadListener_whenReadingBufferedBody_thenSignalDataAndEnd() throws Exception {
+        //GIVEN
+        var request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setContent("{\"email\":\"user@dgomesdev.com\"}".getBytes());
+        when(rateLimiter.acquire(anyList())).thenReturn(0L);
+        var chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        var listener = mock(ReadListener.class);
+
+        //WHEN
+        chain.getRequest().getInputStream().setReadListener(listener);
+
+        //THEN
+        var order = inOrder(listener);
+        order.verify(listener).onDataAvailable();
+        order.verify(listener).onAllDataRead();
+        verify(listener, never()).onError(any());
+    }
+
+    @Test
+    @DisplayName("Should answer 413 to a body above the limit without buffering it")
+    void givenOversizedBody_whenFiltering_thenRejectWithoutAcquiring() throws Exception {
+        //GIVEN
+        var request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setContent(new byte[RateLimitFilter.MAX_BODY_BYTES + 1]);
+        var chain = new MockFilterChain();
+
+        //WHEN
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        //THEN
+        verify(exceptionResolver, times(1)).resolveException(any(), any(), isNull(), any(PayloadTooLargeException.class));
+        verify(rateLimiter, never()).acquire(anyList());
+        assertNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,131 @@
+package com.dgomesdev.to_do_list_api.infra.ratelimit;
+
+import com.dgomesdev.to_do_list_api.infra.cache.RemoteCacheGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<RateLimitKey> keys = List.of(new RateLimitKey("rate-limit:login:ip:203.0.113.7", RateLimit.parse("3/1h")));
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setup() {
+        rateLimiter = new RateLimiter(
+                new LocalRateLimiter(100),
+                redisRateLimiter,
+                new RemoteCacheGuard("Redis rate limiter", "limiting per node", Duration.ofMinutes(1)),
+                registry
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject a flood locally once this node alone has used the bucket up")
+    void givenLocalBucketEmpty_whenAcquiring_thenRejectWithoutRedis() {
+        //GIVEN
+        when(redisRateLimiter.acquire(keys)).thenReturn(0L);
+        for (int i = 0; i < 3; i++) assertEquals(0, rateLimiter.acquire(keys));
+
+        //WHEN
+        var retryAfter = rateLimiter.acquire(keys);
+
+        //THEN
+        assertTrue(retryAfter > 0);
+        verify(redisRateLimiter, times(3)).acquire(keys);
+        assertEquals(1, registry.get("api.rate.limit.rejected").tag("tier", "local").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject when another node has used the shared bucket up")
+    void givenSharedBucketEmpty_whenAcquiring_thenRejectWithRedisRetryAfter() {
+        //GIVEN
+        when(redisRateLimiter.acquire(keys)).thenReturn(1200L);
+
+        //WHEN
+        var retryAfter = rateLimiter.acquire(keys);
+
+        //THEN
+        assertEquals(1200L, retryAfter);
+        assertEquals(1, registry.get("api.rate.limit.rejected").tag("tier", "redis").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep limiting per node while Redis is unavailable")
+    void givenRedisDown_whenAcquiring_thenLimitLocallyAndSkipRedis() {
+        //GIVEN
+        when(redisRateLimiter.acquire(anyList())).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        //WHEN
+        for (int i = 0; i < 3; i++) assertEquals(0, rateLimiter.acquire(keys));
+        var retryAfter = rateLimiter.acquire(keys);
+
+        //THEN
+        assertTrue(retryAfter > 0);
+        verify(redisRateLimiter, times(1)).acquire(anyList());
+    }
+
+    @Test
+    @DisplayName("Should let no more concurrent requests through than the local bucket holds")
+    void givenConcurrentRequests_whenAcquiring_thenAllowCapacityOnly() throws Exception {
+        //GIVEN
+        when(redisRateLimiter.acquire(keys)).thenReturn(0L);
+        var start = new CountDownLatch(1);
+        var allowed = new AtomicInteger();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 16; i++) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (rateLimiter.acquire(keys) == 0) allowed.incrementAndGet();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        //WHEN
+        start.countDown();
+        for (var thread : threads) thread.join();
+
+        //THEN
+        assertEquals(3, allowed.get());
+    }
+
+    @Test
+    @DisplayName("Should read capacity and period, and turn a blank limit off")
+    void givenLimitSpecs_whenParsing_thenReadCapacityAndPeriod() {
+        //WHEN
+        var limit = RateLimit.parse("5/10m");
+
+        //THEN
+        assertEquals(5, limit.capacity());
+        assertEquals(Duration.ofMinutes(10), limit.period());
+        assertFalse(RateLimit.parse("").isEnabled());
+        assertFalse(RateLimit.parse("0/1m").isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> RateLimit.parse("5"));
+    }
+}
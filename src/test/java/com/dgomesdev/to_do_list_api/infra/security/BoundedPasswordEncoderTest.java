@@ -0,0 +1,101 @@
+package com.dgomesdev.to_do_list_api.infra.security;
+
+import com.dgomesdev.to_do_list_api.domain.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordEncoder != null) passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash and match passwords on the hashing pool")
+    void givenPassword_whenEncoding_thenMatch() {
+        //GIVEN
+        passwordEncoder = new BoundedPasswordEncoder(4, 1, 1, Duration.ofSeconds(5));
+
+        //WHEN
+        var hash = passwordEncoder.encode("password");
+
+        //THEN
+        assertTrue(passwordEncoder.matches("password", hash));
+        assertFalse(passwordEncoder.matches("other", hash));
+        assertEquals(4, BoundedPasswordEncoder.costOf(hash));
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash only when the stored cost is lower")
+    void givenHashWithOtherCost_whenCheckingUpgrade_thenRequestRehashOnlyUpwards() {
+        //GIVEN
+        passwordEncoder = new BoundedPasswordEncoder(5, 1, 1, Duration.ofSeconds(5));
+
+        //THEN
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+        assertFalse(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password")));
+        assertFalse(passwordEncoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the hashing pool and its queue are full")
+    void givenSaturatedPool_whenEncoding_thenThrowServiceOverloaded() throws InterruptedException {
+        //GIVEN
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 4, 1, 0, Duration.ofSeconds(5));
+        var busy = new Thread(() -> passwordEncoder.encode("first"));
+        busy.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        //WHEN
+        var exception = assertThrows(ServiceOverloadedException.class, () -> passwordEncoder.encode("second"));
+
+        //THEN
+        assertEquals(5, exception.getRetryAfterSeconds());
+        assertEquals(1, passwordEncoder.getRejectedCount());
+        release.countDown();
+        busy.join();
+    }
+
+    @Test
+    @DisplayName("Should raise the cost while the estimated hash time fits the target")
+    void givenFastHardware_whenCalibrating_thenPickHighestCostUnderTarget() {
+        long tenMillis = TimeUnit.MILLISECONDS.toNanos(10);
+
+        assertEquals(14, BCryptCostCalibrator.costFor(TimeUnit.MILLISECONDS.toNanos(1000), tenMillis, 10, 14));
+        assertEquals(14, BCryptCostCalibrator.costFor(TimeUnit.MILLISECONDS.toNanos(160), tenMillis, 10, 14));
+        assertEquals(13, BCryptCostCalibrator.costFor(TimeUnit.MILLISECONDS.toNanos(150), tenMillis, 10, 14));
+        assertEquals(10, BCryptCostCalibrator.costFor(TimeUnit.MILLISECONDS.toNanos(5), tenMillis, 10, 14));
+    }
+}
@@ -0,0 +1,67 @@
+package com.dgomesdev.to_do_list_api.infra.threads;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setup() {
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20));
+    }
+
+    @Test
+    @DisplayName("Should aggregate pinned events per site")
+    void givenPinnedEvents_whenRecording_thenAggregatePerSite() {
+        //WHEN
+        monitor.record(Duration.ofMillis(30), "org.h2.engine.SessionLocal.lock:123", () -> "");
+        monitor.record(Duration.ofMillis(50), "org.h2.engine.SessionLocal.lock:123", () -> "");
+        monitor.record(Duration.ofMillis(25), "com.sun.mail.smtp.SMTPTransport.sendMessage:1200", () -> "");
+
+        //THEN
+        var stats = monitor.getStats();
+        assertEquals(3, stats.events());
+        assertEquals(105, stats.totalPinnedMillis());
+        assertEquals(50, stats.maxPinnedMillis());
+        assertEquals(2L, stats.sites().get("org.h2.engine.SessionLocal.lock:123"));
+        assertEquals(1L, stats.sites().get("com.sun.mail.smtp.SMTPTransport.sendMessage:1200"));
+    }
+
+    @Test
+    @DisplayName("Should build the stack only the first time a site is seen")
+    void givenKnownSite_whenRecording_thenSkipStackFormatting() {
+        //GIVEN
+        var formatted = new AtomicInteger();
+
+        //WHEN
+        for (int i = 0; i < 5; i++) {
+            monitor.record(Duration.ofMillis(30), "org.h2.engine.SessionLocal.lock:123", () -> "stack " + formatted.incrementAndGet());
+        }
+
+        //THEN
+        assertEquals(1, formatted.get());
+    }
+
+    @Test
+    @DisplayName("Should fold new sites together once the cap is reached")
+    void givenManySites_whenRecording_thenCapDistinctSites() {
+        //WHEN
+        for (int i = 0; i < 150; i++) {
+            monitor.record(Duration.ofMillis(30), "com.example.Driver.call:" + i, () -> "");
+        }
+
+        //THEN
+        var stats = monitor.getStats();
+        assertEquals(150, stats.events());
+        assertTrue(stats.sites().size() <= 101);
+        assertEquals(150, stats.sites().values().stream().mapToLong(Long::longValue).sum());
+    }
+}
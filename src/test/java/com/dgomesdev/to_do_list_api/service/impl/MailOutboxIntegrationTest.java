@@ -0,0 +1,58 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.service.interfaces.EmailService;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=noreply@dgomesdev.com",
+        "spring.mail.password=secret"
+})
+@ActiveProfiles("test")
+class MailOutboxIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private EmailService emailService;
+
+    @Test
+    @DisplayName("Should deliver a queued mail to the SMTP server outside the request thread")
+    void givenWelcomeMail_whenEnqueued_thenDeliverToSmtpServer() throws MessagingException {
+        //WHEN
+        emailService.sendWelcomeMail("user@dgomesdev.com", "user");
+
+        //THEN
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        var received = greenMail.getReceivedMessages()[0];
+        assertEquals("Welcome user!", received.getSubject());
+        assertEquals("user@dgomesdev.com", received.getAllRecipients()[0].toString());
+    }
+
+    @Test
+    @DisplayName("Should deliver a burst of queued mails in batches")
+    void givenBurstOfMails_whenEnqueued_thenDeliverAll() throws MessagingException {
+        //WHEN
+        for (int i = 0; i < 20; i++) emailService.sendResetPasswordMail("user" + i + "@dgomesdev.com", "user" + i, "code" + i);
+
+        //THEN
+        assertTrue(greenMail.waitForIncomingEmail(10000, 20));
+        var received = greenMail.getReceivedMessages();
+        assertEquals(20, received.length);
+        assertEquals("Reset password", received[0].getSubject());
+    }
+}
@@ -0,0 +1,239 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.data.entity.MailOutboxEntity;
+import com.dgomesdev.to_do_list_api.data.repository.MailOutboxRepository;
+import com.dgomesdev.to_do_list_api.domain.model.MailStatus;
+import com.dgomesdev.to_do_list_api.domain.model.MailType;
+import com.dgomesdev.to_do_list_api.domain.model.OutboundMail;
+import com.dgomesdev.to_do_list_api.service.interfaces.MailDeliveryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceImplTest {
+
+    private MailOutboxServiceImpl mailOutboxService;
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private MailDeliveryService mailDeliveryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID mailId = UUID.randomUUID();
+
+    private final UUID otherMailId = UUID.randomUUID();
+
+    private final MailOutboxEntity mail = new MailOutboxEntity(MailType.WELCOME, "user@dgomesdev.com", "user", null);
+
+    private final MailOutboxEntity otherMail = new MailOutboxEntity(MailType.RESET_PASSWORD, "other@dgomesdev.com", "other", "123456");
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(mail, "id", mailId);
+        ReflectionTestUtils.setField(otherMail, "id", otherMailId);
+        mailOutboxService = new MailOutboxServiceImpl(
+                mailOutboxRepository,
+                mailDeliveryService,
+                new TransactionTemplate(transactionManager),
+                1,
+                10,
+                50,
+                3,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(2),
+                Duration.ofMinutes(5),
+                Duration.ofDays(30),
+                10,
+                false
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should queue a mail only once the transaction that wrote it commits")
+    void givenActiveTransaction_whenEnqueuing_thenQueueAfterCommit() {
+        //GIVEN
+        when(mailOutboxRepository.save(any(MailOutboxEntity.class))).thenReturn(mail);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //WHEN
+            mailOutboxService.enqueue(MailType.WELCOME, "user@dgomesdev.com", "user", null);
+
+            //THEN
+            assertEquals(0, mailOutboxService.getStats().enqueued());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, mailOutboxService.getStats().enqueued());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send a claimed batch in one delivery and mark every mail as sent")
+    void givenClaimedBatch_whenDeliverySucceeds_thenMarkAllSent() {
+        //GIVEN
+        when(mailOutboxRepository.claim(eq(List.of(mailId, otherMailId)), any(), eq(MailStatus.SENDING), any(), any(), any())).thenReturn(2);
+        when(mailOutboxRepository.findByClaimToken(any())).thenReturn(List.of(mail, otherMail));
+        when(mailDeliveryService.deliver(anyList())).thenReturn(Map.of());
+
+        //WHEN
+        mailOutboxService.process(List.of(mailId, otherMailId));
+
+        //THEN
+        assertEquals(MailStatus.SENT, mail.getStatus());
+        assertEquals(MailStatus.SENT, otherMail.getStatus());
+        assertNull(otherMail.getCode());
+        var stats = mailOutboxService.getStats();
+        assertEquals(2, stats.sent());
+        assertEquals(1, stats.batches());
+        assertEquals(2, stats.batchedMails());
+        verify(mailDeliveryService, times(1)).deliver(List.of(
+                new OutboundMail(mailId, MailType.WELCOME, "user@dgomesdev.com", "user", null),
+                new OutboundMail(otherMailId, MailType.RESET_PASSWORD, "other@dgomesdev.com", "other", "123456")
+        ));
+        verify(mailOutboxRepository, times(1)).saveAll(List.of(mail, otherMail));
+    }
+
+    @Test
+    @DisplayName("Should retry only the mails the SMTP server rejected")
+    void givenClaimedBatch_whenOneMailFails_thenRetryOnlyThatMail() {
+        //GIVEN
+        when(mailOutboxRepository.claim(any(), any(), eq(MailStatus.SENDING), any(), any(), any())).thenReturn(2);
+        when(mailOutboxRepository.findByClaimToken(any())).thenReturn(List.of(mail, otherMail));
+        when(mailDeliveryService.deliver(anyList())).thenReturn(Map.of(otherMailId, "Mailbox unavailable"));
+
+        //WHEN
+        mailOutboxService.process(List.of(mailId, otherMailId));
+
+        //THEN
+        assertEquals(MailStatus.SENT, mail.getStatus());
+        assertEquals(MailStatus.PENDING, otherMail.getStatus());
+        assertEquals("123456", otherMail.getCode());
+        assertEquals(1, otherMail.getAttempts());
+        assertEquals("Mailbox unavailable", otherMail.getLastError());
+        assertTrue(otherMail.getNextAttemptAt().after(new Date()));
+        assertEquals(1, mailOutboxService.getStats().sent());
+        assertEquals(1, mailOutboxService.getStats().retried());
+    }
+
+    @Test
+    @DisplayName("Should schedule a retry for the whole batch when the delivery throws")
+    void givenClaimedBatch_whenDeliveryThrows_thenScheduleRetryForAll() {
+        //GIVEN
+        when(mailOutboxRepository.claim(any(), any(), eq(MailStatus.SENDING), any(), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findByClaimToken(any())).thenReturn(List.of(mail));
+        when(mailDeliveryService.deliver(anyList())).thenThrow(new RuntimeException("SMTP unavailable"));
+
+        //WHEN
+        mailOutboxService.process(List.of(mailId));
+
+        //THEN
+        assertEquals(MailStatus.PENDING, mail.getStatus());
+        assertEquals("SMTP unavailable", mail.getLastError());
+        assertEquals(1, mailOutboxService.getStats().retried());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter the mail after the last attempt fails")
+    void givenFailingDelivery_whenAttemptsAreExhausted_thenDeadLetter() {
+        //GIVEN
+        when(mailOutboxRepository.claim(any(), any(), eq(MailStatus.SENDING), any(), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findByClaimToken(any())).thenReturn(List.of(mail));
+        when(mailDeliveryService.deliver(anyList())).thenReturn(Map.of(mailId, "SMTP unavailable"));
+
+        //WHEN
+        for (int i = 0; i < 3; i++) mailOutboxService.process(List.of(mailId));
+
+        //THEN
+        assertEquals(MailStatus.DEAD, mail.getStatus());
+        assertEquals(3, mail.getAttempts());
+        assertEquals(1, mailOutboxService.getStats().deadLettered());
+        assertEquals(3, mailOutboxService.getStats().batches());
+    }
+
+    @Test
+    @DisplayName("Should drop the reset code of a dead-lettered mail")
+    void givenResetMail_whenDeadLettered_thenDropCode() {
+        //GIVEN
+        when(mailOutboxRepository.claim(any(), any(), eq(MailStatus.SENDING), any(), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findByClaimToken(any())).thenReturn(List.of(otherMail));
+        when(mailDeliveryService.deliver(anyList())).thenReturn(Map.of(otherMailId, "Mailbox unavailable"));
+
+        //WHEN
+        for (int i = 0; i < 3; i++) mailOutboxService.process(List.of(otherMailId));
+
+        //THEN
+        assertEquals(MailStatus.DEAD, otherMail.getStatus());
+        assertNull(otherMail.getCode());
+    }
+
+    @Test
+    @DisplayName("Should purge sent mails after a week and dead ones after their retention")
+    void givenOldMails_whenPurging_thenDeleteSentAndDead() {
+        //WHEN
+        mailOutboxService.purgeMails();
+
+        //THEN
+        verify(mailOutboxRepository, times(1)).deleteByStatusUpdatedBefore(
+                eq(MailStatus.SENT),
+                argThat(before -> Duration.between(before.toInstant(), Instant.now()).toDays() == 7)
+        );
+        verify(mailOutboxRepository, times(1)).deleteByStatusUpdatedBefore(
+                eq(MailStatus.DEAD),
+                argThat(before -> Duration.between(before.toInstant(), Instant.now()).toDays() == 30)
+        );
+    }
+
+    @Test
+    @DisplayName("Should skip a batch already claimed by another worker")
+    void givenBatchClaimedElsewhere_whenProcessing_thenDoNothing() {
+        //GIVEN
+        when(mailOutboxRepository.claim(any(), any(), eq(MailStatus.SENDING), any(), any(), any())).thenReturn(0);
+
+        //WHEN
+        mailOutboxService.process(List.of(mailId));
+
+        //THEN
+        verify(mailOutboxRepository, never()).findByClaimToken(any());
+        verifyNoInteractions(mailDeliveryService);
+    }
+
+    @Test
+    @DisplayName("Should double the backoff on each attempt up to the maximum")
+    void givenPreviousAttempts_whenComputingBackoff_thenGrowExponentiallyUpToMax() {
+        assertEquals(Duration.ofSeconds(30), mailOutboxService.backoff(0));
+        assertEquals(Duration.ofSeconds(60), mailOutboxService.backoff(1));
+        assertEquals(Duration.ofMinutes(2), mailOutboxService.backoff(5));
+    }
+}
@@ -1,14 +1,37 @@
 package com.dgomesdev.to_do_list_api.service.impl;
 
 import com.dgomesdev.to_do_list_api.data.entity.TaskEntity;
+import com.dgomesdev.to_do_list_api.data.entity.TaskTombstoneEntity;
 import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
 import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskStatsRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskTombstoneRepository;
 import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
+import com.dgomesdev.to_do_list_api.domain.exception.SyncCursorExpiredException;
 import com.dgomesdev.to_do_list_api.domain.exception.TaskNotFoundException;
 import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
+import com.dgomesdev.to_do_list_api.domain.exception.VersionConflictException;
+import com.dgomesdev.to_do_list_api.domain.model.TaskChange;
+import com.dgomesdev.to_do_list_api.domain.model.TaskChangeCursor;
+import com.dgomesdev.to_do_list_api.domain.model.TaskChangeType;
+import com.dgomesdev.to_do_list_api.domain.model.TaskChangesModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskCursor;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
 import com.dgomesdev.to_do_list_api.domain.model.TaskModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperation;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationOutcome;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationResult;
+import com.dgomesdev.to_do_list_api.domain.model.TaskOperationType;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPageModel;
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsKey;
+import com.dgomesdev.to_do_list_api.domain.model.TaskVersion;
+import com.dgomesdev.to_do_list_api.domain.model.TaskWrite;
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.dto.request.TaskOperationRequestDto;
+import com.dgomesdev.to_do_list_api.service.search.TaskSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,19 +39,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +76,18 @@ class TaskServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
     @Mock
     private TaskEntity mockTaskEntity;
 
@@ -80,8 +125,10 @@ class TaskServiceImplTest {
     void givenValidTask_whenSavingTask_ThenReturnSavedTask() {
         //GIVEN
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUserEntity));
-        when(taskRepository.save(any(TaskEntity.class))).thenReturn(mockTaskEntity);
+        when(taskRepository.saveAndFlush(any(TaskEntity.class))).thenReturn(mockTaskEntity);
         when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockTaskEntity.getStatus()).thenReturn(Status.TO_BE_DONE);
+        when(mockTaskEntity.getPriority()).thenReturn(Priority.MEDIUM);
         when(mockUserEntity.getId()).thenReturn(userId);
 
         //WHEN
@@ -90,7 +137,8 @@ class TaskServiceImplTest {
         //THEN
         assertEquals(mockTaskModel.getTitle(), response.getTitle());
         verify(userRepository, times(1)).findById(userId);
-        verify(taskRepository, times(1)).save(any(TaskEntity.class));
+        verify(taskRepository, times(1)).saveAndFlush(any(TaskEntity.class));
+        verify(taskStatsRepository, times(1)).adjust(userId, Status.TO_BE_DONE, Priority.MEDIUM, 1);
     }
 
     @Test
@@ -105,7 +153,7 @@ class TaskServiceImplTest {
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.domain.model.TaskModel.getTitle()\" because \"task\" is null", exception.getMessage());
         verify(userRepository, times(1)).findById(userId);
-        verify(taskRepository, times(0)).save(any(TaskEntity.class));
+        verify(taskRepository, times(0)).saveAndFlush(any(TaskEntity.class));
     }
 
     @Test
@@ -124,6 +172,93 @@ class TaskServiceImplTest {
         verify(taskRepository, times(1)).findById(taskId);
     }
 
+    @Test
+    @DisplayName("Should serve a repeated task read from the cache")
+    void givenCachedTask_whenFindTaskByIdAgain_thenSkipRepository() {
+        //GIVEN
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockUserEntity.getId()).thenReturn(userId);
+        taskService.findTaskById(taskId);
+
+        //WHEN
+        TaskModel response = taskService.findTaskById(taskId);
+
+        //THEN
+        assertEquals(userId, response.getUserId());
+        verify(taskRepository, times(1)).findById(taskId);
+    }
+
+    @Test
+    @DisplayName("Should check ownership of a cached task on every read")
+    void givenTaskCachedByOwner_whenAnotherUserFindsIt_thenThrowException() {
+        //GIVEN
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockUserEntity.getId()).thenReturn(userId);
+        taskService.findTaskById(taskId);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                UUID.randomUUID(),
+                null,
+                List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER))
+        ));
+
+        //WHEN
+        UnauthorizedUserException exception = assertThrows(UnauthorizedUserException.class, () -> taskService.findTaskById(taskId));
+
+        //THEN
+        assertTrue(exception.getMessage().contains("Unauthorized access"));
+        verify(taskRepository, times(1)).findById(taskId);
+    }
+
+    @Test
+    @DisplayName("Should evict the cached task when it is updated")
+    void givenCachedTask_whenUpdatingTask_thenReloadOnNextRead() {
+        //GIVEN
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockUserEntity.getId()).thenReturn(userId);
+        when(taskRepository.patchOwnedCounted(eq(taskId), eq(userId), any(TaskPatch.class), any(Date.class), eq(0L)))
+                .thenReturn(Optional.of(new TaskWrite(new TaskStatsKey(Status.TO_BE_DONE, Priority.LOW), 1L)));
+        taskService.findTaskById(taskId);
+        taskService.patchTask(taskId, new TaskPatch(null, null, null, Status.DONE), 0L);
+
+        //WHEN
+        taskService.findTaskById(taskId);
+
+        //THEN
+        verify(taskRepository, times(2)).findById(taskId);
+    }
+
+    @Test
+    @DisplayName("Should read only the version of a task")
+    void givenTask_whenFindingTaskVersion_thenSkipLoadingTask() {
+        //GIVEN
+        var updatedAt = new Date();
+        when(taskRepository.findVersionById(taskId)).thenReturn(Optional.of(new TaskVersion(userId, 1L, updatedAt)));
+
+        //WHEN
+        TaskVersion response = taskService.findTaskVersion(taskId);
+
+        //THEN
+        assertEquals(1L, response.version());
+        assertEquals(updatedAt, response.updatedAt());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should check ownership when reading the version of a task")
+    void givenTaskOfAnotherUser_whenFindingTaskVersion_thenThrowException() {
+        //GIVEN
+        when(taskRepository.findVersionById(taskId)).thenReturn(Optional.of(new TaskVersion(UUID.randomUUID(), 1L, new Date())));
+
+        //WHEN
+        UnauthorizedUserException exception = assertThrows(UnauthorizedUserException.class, () -> taskService.findTaskVersion(taskId));
+
+        //THEN
+        assertTrue(exception.getMessage().contains("Unauthorized access"));
+    }
+
     @Test
     @DisplayName("Should throw an exception when trying to find by Id a non-existent task")
     void givenInvalidTaskId_whenFindingTaskById_thenThrowException() {
@@ -142,98 +277,377 @@ class TaskServiceImplTest {
     @DisplayName("Should update task successfully")
     void givenValidTask_whenUpdatingTask_ThenReturnUpdatedTask() {
         //GIVEN
+        when(mockTaskModel.getTitle()).thenReturn("Title");
+        when(taskRepository.patchOwned(eq(taskId), eq(userId), any(TaskPatch.class), any(Date.class), isNull())).thenReturn(1);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
         when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockTaskEntity.getTitle()).thenReturn("Title");
         when(mockUserEntity.getId()).thenReturn(userId);
-        when(taskRepository.save(any())).thenReturn(mockTaskEntity);
 
         //WHEN
-        TaskModel response = taskService.updateTask(taskId, mockTaskModel);
+        TaskModel response = taskService.updateTask(taskId, mockTaskModel, null);
 
         //THEN
-        assertEquals(mockTaskModel.getTitle(), response.getTitle());
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(TaskEntity.class));
+        assertEquals("Title", response.getTitle());
+        verify(taskRepository, times(1)).patchOwned(eq(taskId), eq(userId), any(TaskPatch.class), any(Date.class), isNull());
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("Should throw an exception when trying to update a task with invalid id")
     void givenInvalidTaskId_whenUpdatingTask_thenThrowException() {
         //GIVEN
+        when(mockTaskModel.getTitle()).thenReturn("Title");
+        when(taskRepository.patchOwned(eq(taskId), eq(userId), any(TaskPatch.class), any(Date.class), isNull())).thenReturn(0);
+        when(taskRepository.existsById(taskId)).thenReturn(false);
         TaskNotFoundException exception;
 
         //WHEN
-        exception = assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(null, mockTaskModel));
+        exception = assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(taskId, mockTaskModel, null));
 
         //THEN
         assertTrue(exception.getMessage().contains("not found"));
-        verify(taskRepository, times(1)).findById(any());
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw an exception when trying to update an invalid task")
     void givenInvalidTask_whenUpdatingTask_thenThrowException() {
         //GIVEN
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
-        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
-        when(mockUserEntity.getId()).thenReturn(userId);
         NullPointerException exception;
 
         //WHEN
-        exception = assertThrows(NullPointerException.class, () -> taskService.updateTask(taskId, null));
+        exception = assertThrows(NullPointerException.class, () -> taskService.updateTask(taskId, null, null));
 
         //THEN
         assertEquals("Cannot invoke \"com.dgomesdev.to_do_list_api.domain.model.TaskModel.getTitle()\" because \"task\" is null", exception.getMessage());
-        verify(taskRepository, times(1)).findById(taskId);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
-    @DisplayName("Should delete task successfully")
-    void givenValidTask_whenDeletingTask_thenDeleteTaskSuccessfully() {
+    @DisplayName("Should patch only the supplied fields and move the task to its new counter in one write")
+    void givenStatusOnlyPatch_whenPatchingTask_thenRunSingleUpdate() {
         //GIVEN
+        var patch = new TaskPatch(null, null, null, Status.DONE);
+        when(taskRepository.patchOwnedCounted(eq(taskId), eq(userId), eq(patch), any(Date.class), isNull()))
+                .thenReturn(Optional.of(new TaskWrite(new TaskStatsKey(Status.TO_BE_DONE, Priority.HIGH), 4L)));
+
+        //WHEN
+        Long version = taskService.patchTask(taskId, patch, null);
+
+        //THEN
+        assertEquals(4L, version);
+        verify(taskRepository, times(1)).patchOwnedCounted(eq(taskId), eq(userId), eq(patch), any(Date.class), isNull());
+        verifyNoMoreInteractions(taskRepository);
+        verifyNoInteractions(taskStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the new version back after a patch that expected none")
+    void givenUnconditionalPatch_whenPatchingTask_thenReturnCurrentVersion() {
+        //GIVEN
+        var patch = new TaskPatch("Title", null, null, null);
+        when(taskRepository.patchOwned(eq(taskId), eq(userId), eq(patch), any(Date.class), isNull())).thenReturn(1);
+        when(taskRepository.findVersionById(taskId)).thenReturn(Optional.of(new TaskVersion(userId, 8L, new Date())));
+
+        //WHEN
+        Long version = taskService.patchTask(taskId, patch, null);
+
+        //THEN
+        assertEquals(8L, version);
+    }
+
+    @Test
+    @DisplayName("Should answer a patch on a stale version with the current task")
+    void givenStaleVersion_whenPatchingTask_thenThrowConflictWithCurrentTask() {
+        //GIVEN
+        var patch = new TaskPatch(null, null, null, Status.DONE);
+        when(taskRepository.patchOwnedCounted(eq(taskId), eq(userId), eq(patch), any(Date.class), eq(3L))).thenReturn(Optional.empty());
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
         when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
         when(mockUserEntity.getId()).thenReturn(userId);
+        when(mockTaskEntity.getId()).thenReturn(taskId);
+        when(mockTaskEntity.getVersion()).thenReturn(5L);
 
         //WHEN
-        taskService.deleteTask(taskId);
+        VersionConflictException exception = assertThrows(VersionConflictException.class, () -> taskService.patchTask(taskId, patch, 3L));
+
+        //THEN
+        assertEquals(5L, exception.getCurrentTask().getVersion());
+        assertFalse(exception.isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when trying to patch a task of another user")
+    void givenTaskOfAnotherUser_whenPatchingTask_thenThrowException() {
+        //GIVEN
+        var patch = new TaskPatch(null, null, null, Status.DONE);
+        when(taskRepository.patchOwnedCounted(eq(taskId), eq(userId), eq(patch), any(Date.class), isNull())).thenReturn(Optional.empty());
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+
+        //WHEN
+        UnauthorizedUserException exception = assertThrows(UnauthorizedUserException.class, () -> taskService.patchTask(taskId, patch, null));
+
+        //THEN
+        assertTrue(exception.getMessage().contains("Unauthorized access"));
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when trying to apply an empty patch")
+    void givenEmptyPatch_whenPatchingTask_thenThrowException() {
+        //WHEN
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> taskService.patchTask(taskId, new TaskPatch(null, null, null, null), null)
+        );
 
         //THEN
-        assertDoesNotThrow(() -> new UnauthorizedUserException(userId));
-        assertDoesNotThrow(() -> new TaskNotFoundException(taskId));
-        verify(taskRepository, times(1)).delete(mockTaskEntity);
+        assertEquals("Nothing to update", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should delete task successfully")
+    void givenValidTask_whenDeletingTask_thenDeleteTaskSuccessfully() {
+        //GIVEN
+        when(taskRepository.deleteOwned(taskId, userId, null))
+                .thenReturn(Optional.of(new TaskWrite(new TaskStatsKey(Status.DONE, Priority.LOW), 2L)));
+
+        //WHEN
+        TaskVersion response = taskService.deleteTask(taskId, null);
+
+        //THEN
+        assertEquals(userId, response.userId());
+        assertEquals(2L, response.version());
+        verify(taskRepository, times(1)).deleteOwned(taskId, userId, null);
+        verify(taskTombstoneRepository, times(1)).save(any(TaskTombstoneEntity.class));
+        verifyNoInteractions(taskStatsRepository);
+        verify(taskSearchIndex, times(1)).remove(userId, taskId);
+        verify(taskRepository, never()).existsById(any());
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw an exception when trying to delete a non-existent task")
     void givenInvalidTaskId_whenDeletingTask_thenThrowException() {
         //GIVEN
+        when(taskRepository.deleteOwned(taskId, userId, null)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(taskId)).thenReturn(false);
         TaskNotFoundException exception;
 
         //WHEN
-        exception = assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId));
+        exception = assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId, null));
 
         //THEN
         assertTrue(exception.getMessage().contains("not found"));
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(0)).delete(any());
+        verify(taskRepository, times(1)).existsById(taskId);
     }
 
     @Test
     @DisplayName("Should throw an exception when trying to delete a task as an unauthorized user")
     void givenUnauthorizedUser_whenDeletingTask_thenThrowException() {
         //GIVEN
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(mockTaskEntity));
-        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
-        when(mockUserEntity.getId()).thenReturn(UUID.randomUUID());
+        when(taskRepository.deleteOwned(taskId, userId, null)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(taskId)).thenReturn(true);
         UnauthorizedUserException exception;
 
         //WHEN
-        exception = assertThrows(UnauthorizedUserException.class, () -> taskService.deleteTask(taskId));
+        exception = assertThrows(UnauthorizedUserException.class, () -> taskService.deleteTask(taskId, null));
 
         //THEN
         assertTrue(exception.getMessage().contains("Unauthorized access"));
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(0)).delete(any());
+        verify(taskRepository, times(1)).deleteOwned(taskId, userId, null);
+    }
+
+    @Test
+    @DisplayName("Should find a page of tasks with a cursor to the next page")
+    void givenMoreTasksThanPageSize_whenFindingTasks_thenReturnPageWithNextCursor() {
+        //GIVEN
+        when(taskRepository.findPageByUserId(eq(userId), isNull(), isNull(), any(Date.class), any(UUID.class), any(Pageable.class)))
+                .thenReturn(List.of(mockTaskEntity, mockTaskEntity, mockTaskEntity));
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockTaskEntity.getId()).thenReturn(taskId);
+        when(mockTaskEntity.getCreatedAt()).thenReturn(new Date());
+
+        //WHEN
+        TaskPageModel response = taskService.findTasks(null, null, null, 2);
+
+        //THEN
+        assertEquals(2, response.tasks().size());
+        assertNotNull(response.nextCursor());
+        assertEquals(taskId, TaskCursor.decode(response.nextCursor()).taskId());
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when trying to find tasks with an invalid cursor")
+    void givenInvalidCursor_whenFindingTasks_thenThrowException() {
+        //GIVEN
+        IllegalArgumentException exception;
+
+        //WHEN
+        exception = assertThrows(IllegalArgumentException.class, () -> taskService.findTasks(null, null, "not-a-cursor", 10));
+
+        //THEN
+        assertEquals("Invalid cursor", exception.getMessage());
+        verify(taskRepository, times(0)).findPageByUserId(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return the searched tasks in rank order and skip ones deleted since")
+    void givenRankedIds_whenSearchingTasks_thenLoadThemInRankOrder() {
+        //GIVEN
+        var deletedTaskId = UUID.randomUUID();
+        var secondTaskId = UUID.randomUUID();
+        var secondTaskEntity = mock(TaskEntity.class);
+        var ids = List.of(secondTaskId, deletedTaskId, taskId);
+        when(taskSearchIndex.search(userId, "groceries", 20)).thenReturn(ids);
+        when(taskRepository.findAllById(ids)).thenReturn(List.of(mockTaskEntity, secondTaskEntity));
+        when(mockTaskEntity.getId()).thenReturn(taskId);
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(secondTaskEntity.getId()).thenReturn(secondTaskId);
+        when(secondTaskEntity.getUser()).thenReturn(mockUserEntity);
+
+        //WHEN
+        List<TaskModel> response = taskService.searchTasks("groceries", 20);
+
+        //THEN
+        assertEquals(List.of(secondTaskId, taskId), response.stream().map(TaskModel::getTaskId).toList());
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when searching with a blank query")
+    void givenBlankQuery_whenSearchingTasks_thenThrowException() {
+        //WHEN
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("  ", 20));
+
+        //THEN
+        assertEquals("Search query must not be blank", exception.getMessage());
+        verifyNoInteractions(taskSearchIndex, taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should merge updated and deleted tasks in change order")
+    void givenUpdatesAndDeletes_whenFindingChanges_thenReturnThemInOrderWithCursor() {
+        //GIVEN
+        var deletedTaskId = UUID.randomUUID();
+        var now = System.currentTimeMillis();
+        when(taskRepository.findChangesByUserId(eq(userId), any(Date.class), any(UUID.class), any(Date.class), any(Pageable.class)))
+                .thenReturn(List.of(mockTaskEntity));
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockTaskEntity.getId()).thenReturn(taskId);
+        when(mockTaskEntity.getUpdatedAt()).thenReturn(new Date(now - 5000));
+        when(taskTombstoneRepository.findChangesByUserId(eq(userId), any(Date.class), any(UUID.class), any(Date.class), any(Pageable.class)))
+                .thenReturn(List.of(new TaskTombstoneEntity(deletedTaskId, userId, new Date(now - 10000))));
+
+        //WHEN
+        TaskChangesModel response = taskService.findChanges(null, 10);
+
+        //THEN
+        assertEquals(List.of(TaskChangeType.DELETE, TaskChangeType.UPSERT), response.changes().stream().map(TaskChange::type).toList());
+        assertEquals(List.of(deletedTaskId, taskId), response.changes().stream().map(TaskChange::taskId).toList());
+        assertFalse(response.hasMore());
+        assertTrue(TaskChangeCursor.decode(response.nextCursor()).changedAt().isAfter(Instant.ofEpochMilli(now - 5000)));
+    }
+
+    @Test
+    @DisplayName("Should stop at the page size and point the cursor at the last returned change")
+    void givenMoreChangesThanPageSize_whenFindingChanges_thenReturnPageWithCursor() {
+        //GIVEN
+        var now = System.currentTimeMillis();
+        when(taskRepository.findChangesByUserId(eq(userId), any(Date.class), any(UUID.class), any(Date.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(taskTombstoneRepository.findChangesByUserId(eq(userId), any(Date.class), any(UUID.class), any(Date.class), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new TaskTombstoneEntity(taskId, userId, new Date(now - 10000)),
+                        new TaskTombstoneEntity(UUID.randomUUID(), userId, new Date(now - 9000))
+                ));
+
+        //WHEN
+        TaskChangesModel response = taskService.findChanges(null, 1);
+
+        //THEN
+        assertEquals(1, response.changes().size());
+        assertTrue(response.hasMore());
+        assertEquals(new TaskChangeCursor(Instant.ofEpochMilli(now - 10000), taskId), TaskChangeCursor.decode(response.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when the sync cursor is older than the tombstone retention")
+    void givenExpiredCursor_whenFindingChanges_thenThrowException() {
+        //GIVEN
+        var since = new TaskChangeCursor(Instant.now().minus(Duration.ofDays(31)), taskId).encode();
+
+        //WHEN
+        assertThrows(SyncCursorExpiredException.class, () -> taskService.findChanges(since, 10));
+
+        //THEN
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Should apply a batch with one lookup and report a result per operation")
+    void givenMixedBatch_whenApplyingBatch_thenReturnResultPerOperation() {
+        //GIVEN
+        var missingTaskId = UUID.randomUUID();
+        var operations = List.of(
+                TaskOperation.fromRequest(new TaskOperationRequestDto(TaskOperationType.CREATE, null, "New task", null, null, null)),
+                TaskOperation.fromRequest(new TaskOperationRequestDto(TaskOperationType.STATUS, taskId, null, null, null, Status.DONE)),
+                TaskOperation.fromRequest(new TaskOperationRequestDto(TaskOperationType.DELETE, missingTaskId, null, null, null, null))
+        );
+        when(taskRepository.findAllById(Set.of(taskId, missingTaskId))).thenReturn(List.of(mockTaskEntity));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUserEntity));
+        when(mockTaskEntity.getId()).thenReturn(taskId);
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockTaskEntity.getStatus()).thenReturn(Status.TO_BE_DONE, Status.DONE);
+        when(mockTaskEntity.getPriority()).thenReturn(Priority.HIGH);
+        when(mockUserEntity.getId()).thenReturn(userId);
+
+        //WHEN
+        List<TaskOperationResult> results = taskService.applyBatch(operations);
+
+        //THEN
+        assertEquals(
+                List.of(TaskOperationOutcome.CREATED, TaskOperationOutcome.UPDATED, TaskOperationOutcome.NOT_FOUND),
+                results.stream().map(TaskOperationResult::outcome).toList()
+        );
+        assertEquals("New task", results.get(0).task().getTitle());
+        verify(mockTaskEntity, times(1)).setStatus(Status.DONE);
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository, times(1)).flush();
+        verify(taskRepository, never()).findById(any());
+        verify(taskStatsRepository, times(1)).adjust(userId, Status.TO_BE_DONE, Priority.MEDIUM, 1);
+        verify(taskStatsRepository, times(1)).adjust(userId, Status.TO_BE_DONE, Priority.HIGH, -1);
+        verify(taskStatsRepository, times(1)).adjust(userId, Status.DONE, Priority.HIGH, 1);
+    }
+
+    @Test
+    @DisplayName("Should skip batch operations on tasks owned by another user")
+    void givenTaskOfAnotherUser_whenApplyingBatch_thenReportUnauthorized() {
+        //GIVEN
+        var operations = List.of(
+                TaskOperation.fromRequest(new TaskOperationRequestDto(TaskOperationType.DELETE, taskId, null, null, null, null))
+        );
+        when(taskRepository.findAllById(Set.of(taskId))).thenReturn(List.of(mockTaskEntity));
+        when(mockTaskEntity.getId()).thenReturn(taskId);
+        when(mockTaskEntity.getUser()).thenReturn(mockUserEntity);
+        when(mockUserEntity.getId()).thenReturn(UUID.randomUUID());
+
+        //WHEN
+        List<TaskOperationResult> results = taskService.applyBatch(operations);
+
+        //THEN
+        assertEquals(TaskOperationOutcome.UNAUTHORIZED, results.get(0).outcome());
+        verify(taskRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when applying an empty batch")
+    void givenEmptyBatch_whenApplyingBatch_thenThrowException() {
+        //WHEN
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> taskService.applyBatch(List.of()));
+
+        //THEN
+        assertEquals("No operations to apply", exception.getMessage());
+        verifyNoInteractions(taskRepository);
     }
-}
\ No newline at end of file
+}
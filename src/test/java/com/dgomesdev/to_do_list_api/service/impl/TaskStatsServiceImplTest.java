@@ -0,0 +1,111 @@
+package com.dgomesdev.to_do_list_api.service.impl;
+
+import com.dgomesdev.to_do_list_api.data.entity.TaskStatsEntity;
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskStatsRepository;
+import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
+import com.dgomesdev.to_do_list_api.domain.model.Priority;
+import com.dgomesdev.to_do_list_api.domain.model.Status;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsCount;
+import com.dgomesdev.to_do_list_api.domain.model.TaskStatsModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceImplTest {
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskStatsServiceImpl taskStatsService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        taskStatsService = new TaskStatsServiceImpl(taskStatsRepository, taskRepository, userRepository, transactionTemplate, 2);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should sum the counters by status and by priority and fill in the empty ones")
+    void givenCounters_whenFindingStats_thenReturnTotalsByStatusAndPriority() {
+        //GIVEN
+        when(taskStatsRepository.findCountsByUserId(userId)).thenReturn(List.of(
+                new TaskStatsCount(Status.TO_BE_DONE, Priority.HIGH, 3L),
+                new TaskStatsCount(Status.TO_BE_DONE, Priority.LOW, 2L),
+                new TaskStatsCount(Status.DONE, Priority.HIGH, 4L)
+        ));
+
+        //WHEN
+        TaskStatsModel stats = taskStatsService.findStats();
+
+        //THEN
+        assertEquals(9, stats.total());
+        assertEquals(5, stats.byStatus().get(Status.TO_BE_DONE));
+        assertEquals(0, stats.byStatus().get(Status.IN_PROGRESS));
+        assertEquals(7, stats.byPriority().get(Priority.HIGH));
+        assertEquals(0, stats.byPriority().get(Priority.MEDIUM));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should repair drifted counters and recreate missing ones from a recount")
+    @SuppressWarnings("unchecked")
+    void givenDriftedCounters_whenReconciling_thenRepairThem() {
+        //GIVEN
+        var counters = TaskStatsEntity.emptyFor(userId).stream()
+                .filter(counter -> counter.getStatus() != Status.DONE || counter.getPriority() != Priority.LOW)
+                .toList();
+        counters.get(0).setTaskCount(7);
+        when(userRepository.findIdsAfter(any(UUID.class), any(Pageable.class))).thenReturn(List.of(userId));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(taskStatsRepository.lockAllByUserId(userId)).thenReturn(counters);
+        when(taskRepository.countByUserId(userId)).thenReturn(List.of(
+                new TaskStatsCount(Status.TO_BE_DONE, Priority.MEDIUM, 2L),
+                new TaskStatsCount(Status.DONE, Priority.LOW, 1L)
+        ));
+
+        //WHEN
+        int repaired = taskStatsService.reconcile();
+
+        //THEN
+        assertEquals(3, repaired);
+        assertEquals(0, counters.get(0).getTaskCount());
+        assertEquals(2, counters.get(1).getTaskCount());
+        verify(taskStatsRepository, times(1)).save(any(TaskStatsEntity.class));
+        verify(userRepository, times(1)).findIdsAfter(any(UUID.class), any(Pageable.class));
+    }
+}
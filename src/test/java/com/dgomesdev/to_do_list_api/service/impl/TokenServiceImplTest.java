@@ -3,7 +3,9 @@ package com.dgomesdev.to_do_list_api.service.impl;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.dgomesdev.to_do_list_api.domain.model.AuthenticatedUser;
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
 import org.junit.jupiter.api.BeforeEach;
@@ -93,10 +95,32 @@ class TokenServiceImplTest {
         );
         String token = tokenService.generateToken(mockUserModel);
         // WHEN
-        UserModel validUser = tokenService.getUserFromToken(token);
+        AuthenticatedUser validUser = tokenService.getUserFromToken(token);
 
         // THEN
-        assertEquals(UserModel.class, validUser.getClass());
+        assertEquals(userId, validUser.userId());
+        assertEquals(List.of(UserAuthority.toGrantedAuthority(UserAuthority.USER)), validUser.authorities());
+        assertNotNull(validUser.expiresAt());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the verifier when the secret changes")
+    void givenChangedSecret_whenValidatingToken_thenRejectTokenSignedWithOldSecret() {
+        // GIVEN
+        when(mockUserModel.getUserId()).thenReturn(userId);
+        when(mockUserModel.getAuthorities()).thenReturn(userAuthorities
+                .stream()
+                .map(UserAuthority::toGrantedAuthority)
+                .toList()
+        );
+        String token = tokenService.generateToken(mockUserModel);
+        tokenService.secret = "another-secret";
+
+        // WHEN
+        var exception = assertThrows(SignatureVerificationException.class, () -> tokenService.getUserFromToken(token));
+
+        // THEN
+        assertNotNull(exception.getMessage());
     }
 
     @Test
@@ -1,12 +1,18 @@
 package com.dgomesdev.to_do_list_api.service.impl;
 
 import com.dgomesdev.to_do_list_api.data.entity.UserEntity;
+import com.dgomesdev.to_do_list_api.data.repository.TaskRepository;
+import com.dgomesdev.to_do_list_api.data.repository.TaskStatsRepository;
+import com.dgomesdev.to_do_list_api.data.repository.UserCredentials;
 import com.dgomesdev.to_do_list_api.data.repository.UserRepository;
 import com.dgomesdev.to_do_list_api.domain.exception.UnauthorizedUserException;
 import com.dgomesdev.to_do_list_api.domain.exception.UserNotFoundException;
+import com.dgomesdev.to_do_list_api.domain.exception.UserVersionConflictException;
 import com.dgomesdev.to_do_list_api.domain.model.UserAuthority;
 import com.dgomesdev.to_do_list_api.domain.model.UserModel;
+import com.dgomesdev.to_do_list_api.service.interfaces.EmailService;
 import com.dgomesdev.to_do_list_api.service.interfaces.TokenService;
+import com.dgomesdev.to_do_list_api.service.search.TaskSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -23,11 +30,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,9 +53,21 @@ class UserServiceImplTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private EmailService emailService;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
     @Mock
     private UserModel mockUserModel;
 
@@ -65,7 +89,7 @@ class UserServiceImplTest {
 
     @BeforeEach
     void setup() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder, tokenService);
+        userService = new UserServiceImpl(userRepository, taskRepository, taskStatsRepository, passwordEncoder, tokenService, emailService, taskSearchIndex, new ConcurrentMapCacheManager());
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userId,
                 null,
@@ -92,6 +116,8 @@ class UserServiceImplTest {
 
         //THEN
         assertEquals("username", response.getUsername());
+        verify(taskStatsRepository).saveAll(anyList());
+        verify(emailService).sendWelcomeMail("danilo.gomes@dgomesdev.com", "username");
     }
 
     @Test
@@ -125,13 +151,15 @@ class UserServiceImplTest {
     @DisplayName("Should find an user by Id successfully")
     void givenValidUserId_whenFindUserByUserId_theReturnUser() {
         //GIVEN
-        when(userRepository.findById(userId)).thenReturn(Optional.of(validUserEntity));
+        when(userRepository.findWithAuthoritiesById(userId)).thenReturn(Optional.of(validUserEntity));
+        when(taskRepository.findAllByUserId(userId)).thenReturn(List.of());
 
         //WHEN
         UserModel response = userService.findUserById(userId);
 
         //THEN
         assertEquals("username", response.getUsername());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -164,7 +192,7 @@ class UserServiceImplTest {
         when(userRepository.save(any(UserEntity.class))).thenReturn(existingUser);
 
         // WHEN
-        var response = userService.updateUser(newUser);
+        var response = userService.updateUser(newUser, null);
 
         // THEN
         assertEquals("new username", response.getUsername());
@@ -178,7 +206,7 @@ class UserServiceImplTest {
         when(mockUserModel.getUserId()).thenReturn(UUID.randomUUID());
 
         //WHEN
-        UnauthorizedUserException exception = assertThrows(UnauthorizedUserException.class, () -> userService.updateUser(mockUserModel));
+        UnauthorizedUserException exception = assertThrows(UnauthorizedUserException.class, () -> userService.updateUser(mockUserModel, null));
 
         // THEN
         assertTrue(exception.getMessage().contains("Unauthorized access"));
@@ -191,13 +219,47 @@ class UserServiceImplTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUserEntity));
 
         //WHEN
-        userService.deleteUser(userId);
+        userService.deleteUser(userId, null);
 
         //THEN
+        verify(taskStatsRepository).deleteAllByUserId(userId);
+        verify(taskSearchIndex).removeUser(userId);
         assertDoesNotThrow(() -> new UnauthorizedUserException(userId));
         assertDoesNotThrow(() -> new UserNotFoundException(userId));
     }
 
+    @Test
+    @DisplayName("Should delete a user still at the expected version without locking it")
+    void givenExpectedVersion_whenDeletingUser_thenDelete() {
+        //GIVEN
+        ReflectionTestUtils.setField(validUserEntity, "version", 3L);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(validUserEntity));
+
+        //WHEN
+        userService.deleteUser(userId, 3L);
+
+        //THEN
+        verify(userRepository).delete(validUserEntity);
+    }
+
+    @Test
+    @DisplayName("Should reject a write expecting a version the user has moved past with the current user")
+    void givenStaleVersion_whenUpdatingUser_thenThrowVersionConflict() {
+        //GIVEN
+        ReflectionTestUtils.setField(validUserEntity, "id", userId);
+        ReflectionTestUtils.setField(validUserEntity, "version", 4L);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(validUserEntity));
+
+        //WHEN
+        var exception = assertThrows(UserVersionConflictException.class, () -> userService.updateUser(validUserWithId(), 3L));
+
+        //THEN
+        assertEquals(4L, exception.getCurrentUser().getVersion());
+        assertEquals(userId, exception.getCurrentUser().getUserId());
+        assertEquals("", exception.getCurrentUser().getPassword());
+        verify(userRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should throw an exception when trying to delete a non-existent user")
     void givenInvalidUser_whenDeletingUser_thenThrowException() {
@@ -205,7 +267,7 @@ class UserServiceImplTest {
         UserNotFoundException exception;
 
         //WHEN
-        exception = assertThrows(UserNotFoundException.class, () -> userService.deleteUser(userId));
+        exception = assertThrows(UserNotFoundException.class, () -> userService.deleteUser(userId, null));
 
         //THEN
         assertTrue(exception.getMessage().contains("not found"));
@@ -218,7 +280,7 @@ class UserServiceImplTest {
         UnauthorizedUserException exception;
 
         //WHEN
-        exception = assertThrows(UnauthorizedUserException.class, () -> userService.deleteUser(UUID.randomUUID()));
+        exception = assertThrows(UnauthorizedUserException.class, () -> userService.deleteUser(UUID.randomUUID(), null));
 
         //THEN
         assertTrue(exception.getMessage().contains("Unauthorized access"));
@@ -228,13 +290,20 @@ class UserServiceImplTest {
     @DisplayName("Should find an user by username successfully")
     void givenValidUsername_whenFindUserByUserId_theReturnUser() {
         //GIVEN
-        when(userRepository.findUserByEmail("email")).thenReturn(Optional.of(validUserEntity));
+        when(userRepository.findCredentialsByEmail("email")).thenReturn(List.of(
+                new UserCredentials(userId, "username", "email", "hash", UserAuthority.USER),
+                new UserCredentials(userId, "username", "email", "hash", UserAuthority.ADMIN)
+        ));
 
         //WHEN
         UserDetails response = userService.loadUserByUsername("email");
 
         //THEN
         assertEquals("username", response.getUsername());
+        assertEquals("hash", response.getPassword());
+        assertEquals(2, response.getAuthorities().size());
+        assertTrue(((UserModel) response).getTasks().isEmpty());
+        verifyNoInteractions(tokenService, taskRepository);
     }
 
     @Test
@@ -249,4 +318,14 @@ class UserServiceImplTest {
         //THEN
         assertEquals("User not found with email: ", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    private UserModel validUserWithId() {
+        return new UserModel.Builder()
+                .withUserId(userId)
+                .withUsername("username")
+                .withPassword("password")
+                .withUserAuthorities(Set.of(UserAuthority.USER))
+                .withEmail("danilo.gomes@dgomesdev.com")
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.dgomesdev.to_do_list_api.service.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateTest {
+
+    @Test
+    @DisplayName("Should fill every occurrence of a placeholder")
+    void givenRepeatedPlaceholder_whenRendering_thenFillEveryOccurrence() {
+        //GIVEN
+        var template = MailTemplate.parse("<p>{{ username }}</p><a href=\"?code={{code}}\">{{code}}</a>");
+
+        //WHEN
+        var html = template.render(Map.of("username", "user", "code", "123456"));
+
+        //THEN
+        assertEquals("<p>user</p><a href=\"?code=123456\">123456</a>", html);
+    }
+
+    @Test
+    @DisplayName("Should escape HTML in placeholder values")
+    void givenValueWithMarkup_whenRendering_thenEscapeIt() {
+        //GIVEN
+        var template = MailTemplate.parse("<strong>{{username}}</strong>");
+
+        //WHEN
+        var html = template.render(Map.of("username", "<script>"));
+
+        //THEN
+        assertEquals("<strong>&lt;script&gt;</strong>", html);
+    }
+
+    @Test
+    @DisplayName("Should reject a template with an unclosed placeholder")
+    void givenUnclosedPlaceholder_whenParsing_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.parse("<p>{{username</p>"));
+    }
+
+    @Test
+    @DisplayName("Should load the bundled reset password template")
+    void givenBundledTemplate_whenRendering_thenContainCode() {
+        //GIVEN
+        var template = MailTemplate.fromClasspath("templates/mail/reset-password.html");
+
+        //WHEN
+        var html = template.render(Map.of("username", "user", "code", "123456"));
+
+        //THEN
+        assertTrue(html.contains("reset-password?code=123456"));
+        assertFalse(html.contains("{{"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.dgomesdev.to_do_list_api.service.search;
+
+import com.dgomesdev.to_do_list_api.domain.model.TaskPatch;
+import com.dgomesdev.to_do_list_api.domain.model.TaskSearchDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskSearchIndexTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID groceriesId = UUID.randomUUID();
+    private final UUID bakeryId = UUID.randomUUID();
+    private final UUID reportId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private InMemoryTaskSearchIndex searchIndex;
+
+    @BeforeEach
+    void setup() {
+        var tasks = List.of(
+                new TaskSearchDocument(groceriesId, "Buy groceries", "Milk, bread and eggs"),
+                new TaskSearchDocument(bakeryId, "Go to the bakery", "Buy bread for the week"),
+                new TaskSearchDocument(reportId, "Write the report", null)
+        );
+        searchIndex = new InMemoryTaskSearchIndex(id -> {
+            loads.incrementAndGet();
+            return id.equals(userId) ? tasks : List.of();
+        }, 10, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should match every query word, case-insensitively, and rank title matches first")
+    void givenQueryWords_whenSearching_thenReturnTasksMatchingAllRankedByField() {
+        //WHEN
+        var bread = searchIndex.search(userId, "BREAD", 10);
+        var buyBread = searchIndex.search(userId, "buy bread", 10);
+        var buyEggs = searchIndex.search(userId, "buy eggs", 10);
+
+        //THEN
+        assertEquals(2, bread.size());
+        assertEquals(List.of(groceriesId, bakeryId), buyBread);
+        assertEquals(List.of(groceriesId), buyEggs);
+        assertTrue(searchIndex.search(userId, "bread report", 10).isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep only the best hits up to the limit")
+    void givenLimit_whenSearching_thenReturnBestHitsOnly() {
+        //WHEN
+        var result = searchIndex.search(userId, "bread", 1);
+
+        //THEN
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    @DisplayName("Should apply writes to a loaded index only after the transaction commits")
+    void givenTransaction_whenWriting_thenApplyAfterCommit() {
+        //GIVEN
+        searchIndex.search(userId, "bread", 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //WHEN
+        searchIndex.remove(userId, bakeryId);
+        searchIndex.patch(userId, reportId, new TaskPatch("Write the bread report", null, null, null));
+        var beforeCommit = searchIndex.search(userId, "bread", 10);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //THEN
+        assertEquals(2, beforeCommit.size());
+        assertEquals(List.of(reportId, groceriesId), searchIndex.search(userId, "bread", 10));
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted user's index once the transaction commits")
+    void givenDeletedUser_whenCommitted_thenDropIndex() {
+        //GIVEN
+        searchIndex.search(userId, "bread", 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //WHEN
+        searchIndex.removeUser(userId);
+        searchIndex.search(userId, "bread", 10);
+        var loadsBeforeCommit = loads.get();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        searchIndex.search(userId, "bread", 10);
+
+        //THEN
+        assertEquals(1, loadsBeforeCommit);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should leave an unloaded index to its first search")
+    void givenUnloadedUser_whenWriting_thenSkipUntilFirstSearch() {
+        //WHEN
+        searchIndex.index(userId, new TaskSearchDocument(UUID.randomUUID(), "Pay rent", null));
+
+        //THEN
+        assertEquals(0, loads.get());
+        assertTrue(searchIndex.search(userId, "rent", 10).isEmpty());
+        assertTrue(searchIndex.search(userId, " ,. ", 10).isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.dgomesdev.to_do_list_api.service.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailValidatorTest {
+
+    private final EmailValidator emailValidator = EmailValidator.standard();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "danilo.gomes@dgomesdev.com",
+            "danilo+tasks@mail.dgomesdev.com.br",
+            "d_g%1-2@dgomes-dev.io"
+    })
+    @DisplayName("Should accept well formed e-mails")
+    void givenValidEmail_whenValidating_thenReturnTrue(String email) {
+        assertTrue(emailValidator.isValid(email));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            " ",
+            "email",
+            "@dgomesdev.com",
+            "danilo@",
+            "danilo@dgomesdev",
+            "danilo@.com",
+            "danilo@dgomesdev.c",
+            "danilo@dgomesdev.c0m",
+            "danilo..gomes@dgomesdev.com",
+            "danilo@dgomesdev..com",
+            "danilo@gomes@dgomesdev.com",
+            "danilo gomes@dgomesdev.com",
+            "danilo@dgomesdev.com."
+    })
+    @DisplayName("Should reject malformed e-mails")
+    void givenInvalidEmail_whenValidating_thenReturnFalse(String email) {
+        assertFalse(emailValidator.isValid(email));
+    }
+
+    @Test
+    @DisplayName("Should reject e-mails from blocked domains and their subdomains")
+    void givenBlockedDomain_whenValidating_thenReturnFalse() {
+        //GIVEN
+        var validator = new EmailValidator(List.of(new DisposableDomainRule(List.of("Mailinator.com", "yopmail.com"))));
+
+        //THEN
+        assertFalse(validator.isValid("someone@mailinator.com"));
+        assertFalse(validator.isValid("someone@eu.MAILINATOR.com"));
+        assertFalse(validator.isValid("someone@yopmail.com"));
+        assertTrue(validator.isValid("someone@notmailinator.com"));
+        assertTrue(validator.isValid("mailinator.com@dgomesdev.com"));
+    }
+}